@@ -0,0 +1,179 @@
+package com.smsmode.pricing.benchmark;
+
+import com.smsmode.pricing.enumeration.NightRatesModeEnum;
+import com.smsmode.pricing.resource.common.UnitPricingGetResource;
+import com.smsmode.pricing.resource.pricecalculation.PriceCalculationPostResource;
+import com.smsmode.pricing.service.impl.PricingCalculationServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of PricingCalculationServiceImpl.calculatePricing on in-memory fixtures, one state per
+ * scenario. Run with {@code -prof gc} to get the allocation per operation (gc.alloc.rate.norm, B/op).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingCalculationBenchmark {
+
+    /**
+     * One unit without rate plan, priced by its default rate for a week.
+     */
+    @State(Scope.Benchmark)
+    public static class DefaultRateOnly {
+
+        PricingCalculationServiceImpl service;
+        PriceCalculationPostResource request;
+
+        @Setup
+        public void setUp() {
+            PricingFixture fixture = new PricingFixture();
+            fixture.addUnit("unit-0", fixture.defaultRate("100.00"));
+            service = fixture.createService();
+            request = PricingFixture.request(List.of("unit-0"), 10, 7, PricingFixture.guests(3));
+        }
+    }
+
+    /**
+     * One unit whose rate plan has many weekly rate tables, for a two-week stay in the middle of them.
+     */
+    @State(Scope.Benchmark)
+    public static class ManyRateTables {
+
+        @Param({"52", "520"})
+        int rateTables;
+
+        PricingCalculationServiceImpl service;
+        PriceCalculationPostResource request;
+
+        @Setup
+        public void setUp() {
+            PricingFixture fixture = new PricingFixture();
+            fixture.addUnit("unit-0", fixture.defaultRate("100.00"), fixture.consecutiveRateTables(rateTables, 7));
+            service = fixture.createService();
+            request = PricingFixture.request(List.of("unit-0"), rateTables * 7 / 2, 14, PricingFixture.guests(3));
+        }
+    }
+
+    /**
+     * One unit whose rate table has a child fee per age bucket, for a family with children of every bucket.
+     */
+    @State(Scope.Benchmark)
+    public static class ManyChildBuckets {
+
+        @Param({"6", "1"})
+        int bucketWidth;
+
+        PricingCalculationServiceImpl service;
+        PriceCalculationPostResource request;
+
+        @Setup
+        public void setUp() {
+            PricingFixture fixture = new PricingFixture();
+            fixture.addUnit("unit-0", fixture.defaultRate("100.00"), List.of(fixture.rateTableWithChildBuckets(
+                    PricingFixture.FIRST_DAY, PricingFixture.FIRST_DAY.plusYears(1), bucketWidth)));
+            service = fixture.createService();
+            int[] childAges = new int[18];
+            for (int age = 0; age < childAges.length; age++) {
+                childAges[age] = age;
+            }
+            request = PricingFixture.request(List.of("unit-0"), 30, 7, PricingFixture.guests(4, childAges));
+        }
+    }
+
+    /**
+     * One unit whose rate plan has weekly rate tables, for a long stay crossing many of them, with one
+     * night rate resource per night (NIGHTS) or per run of nights with the same rate (RUNS).
+     */
+    @State(Scope.Benchmark)
+    public static class LongStay {
+
+        @Param({"30", "365"})
+        int nights;
+
+        @Param({"NIGHTS", "RUNS"})
+        NightRatesModeEnum nightRatesMode;
+
+        PricingCalculationServiceImpl service;
+        PriceCalculationPostResource request;
+
+        @Setup
+        public void setUp() {
+            PricingFixture fixture = new PricingFixture();
+            fixture.addUnit("unit-0", fixture.defaultRate("100.00"), fixture.consecutiveRateTables(104, 7));
+            service = fixture.createService();
+            request = PricingFixture.request(List.of("unit-0"), 7, nights, PricingFixture.guests(3, 4));
+            request.setNightRatesMode(nightRatesMode);
+        }
+    }
+
+    /**
+     * Many units, half priced by a rate plan and half by their default rate, for a week.
+     */
+    @State(Scope.Benchmark)
+    public static class ManyUnits {
+
+        @Param({"100", "1000"})
+        int units;
+
+        PricingCalculationServiceImpl service;
+        PriceCalculationPostResource request;
+
+        @Setup
+        public void setUp() {
+            PricingFixture fixture = new PricingFixture();
+            List<String> unitIds = new ArrayList<>(units);
+            for (int i = 0; i < units; i++) {
+                String unitId = "unit-" + i;
+                if (i % 2 == 0) {
+                    fixture.addUnit(unitId, fixture.defaultRate("100.00"), fixture.consecutiveRateTables(52, 7));
+                } else {
+                    fixture.addUnit(unitId, fixture.defaultRate("90.00"));
+                }
+                unitIds.add(unitId);
+            }
+            service = fixture.createService();
+            request = PricingFixture.request(unitIds, 60, 7, PricingFixture.guests(3, 8));
+        }
+    }
+
+    @Benchmark
+    public List<UnitPricingGetResource> defaultRateOnly(DefaultRateOnly state) {
+        return state.service.calculatePricing(state.request).getBody();
+    }
+
+    @Benchmark
+    public List<UnitPricingGetResource> ratePlanWithManyRateTables(ManyRateTables state) {
+        return state.service.calculatePricing(state.request).getBody();
+    }
+
+    @Benchmark
+    public List<UnitPricingGetResource> manyChildBuckets(ManyChildBuckets state) {
+        return state.service.calculatePricing(state.request).getBody();
+    }
+
+    @Benchmark
+    public List<UnitPricingGetResource> longStay(LongStay state) {
+        return state.service.calculatePricing(state.request).getBody();
+    }
+
+    @Benchmark
+    public List<UnitPricingGetResource> manyUnits(ManyUnits state) {
+        return state.service.calculatePricing(state.request).getBody();
+    }
+}
@@ -0,0 +1,242 @@
+package com.smsmode.pricing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smsmode.pricing.config.PricingCalculationProperties;
+import com.smsmode.pricing.embeddable.AgeBucketEmbeddable;
+import com.smsmode.pricing.embeddable.SegmentRefEmbeddable;
+import com.smsmode.pricing.engine.EpochDays;
+import com.smsmode.pricing.engine.QuoteKey;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.enumeration.AmountTypeEnum;
+import com.smsmode.pricing.enumeration.GuestTypeEnum;
+import com.smsmode.pricing.event.BookingChangedEvent;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
+import com.smsmode.pricing.model.AdditionalGuestFeeModel;
+import com.smsmode.pricing.model.DaySpecificRateModel;
+import com.smsmode.pricing.model.DefaultRateModel;
+import com.smsmode.pricing.model.RatePlanModel;
+import com.smsmode.pricing.model.RateTableModel;
+import com.smsmode.pricing.resource.common.ChildResource;
+import com.smsmode.pricing.resource.common.GuestsResource;
+import com.smsmode.pricing.resource.common.UnitPricingGetResource;
+import com.smsmode.pricing.resource.pricecalculation.PriceCalculationPostResource;
+import com.smsmode.pricing.service.OccupancyService;
+import com.smsmode.pricing.service.PricingSnapshotService;
+import com.smsmode.pricing.service.QuoteCacheService;
+import com.smsmode.pricing.service.impl.PricingCalculationServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory pricing data of a set of units, and a PricingCalculationServiceImpl reading it instead of
+ * PostgreSQL. The quote cache is disabled so every invocation runs the engine.
+ */
+final class PricingFixture {
+
+    static final String SEGMENT_ID = "segment-direct";
+    static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 5);
+
+    private final Map<String, UnitPricingSnapshot> snapshots = new HashMap<>();
+    private int sequence;
+
+    /**
+     * Adds a unit priced by its default rate only.
+     */
+    PricingFixture addUnit(String unitId, DefaultRateModel defaultRate) {
+        snapshots.put(unitId, UnitPricingSnapshot.of(unitId, defaultRate, List.of(), Map.of()));
+        return this;
+    }
+
+    /**
+     * Adds a unit with a default rate and a rate plan of the segment made of the given rate tables.
+     */
+    PricingFixture addUnit(String unitId, DefaultRateModel defaultRate, List<RateTableModel> rateTables) {
+        RatePlanModel ratePlan = new RatePlanModel();
+        ratePlan.setId(nextId("plan"));
+        ratePlan.setName("Direct");
+        ratePlan.setEnabled(true);
+        ratePlan.getSegments().add(new SegmentRefEmbeddable(SEGMENT_ID, "Direct"));
+        snapshots.put(unitId, UnitPricingSnapshot.of(unitId, defaultRate, List.of(ratePlan),
+                Map.of(ratePlan.getId(), rateTables)));
+        return this;
+    }
+
+    PricingCalculationServiceImpl createService() {
+        PricingCalculationProperties properties = new PricingCalculationProperties();
+        properties.setQuoteCacheEnabled(false);
+        return new PricingCalculationServiceImpl(new FixtureSnapshotService(), properties, new NoOccupancyService(),
+                new NoQuoteCacheService(), new ObjectMapper());
+    }
+
+    /**
+     * Default rate with a weekend rate and an adult fee beyond 2 guests.
+     */
+    DefaultRateModel defaultRate(String nightly) {
+        DefaultRateModel defaultRate = new DefaultRateModel();
+        defaultRate.setId(nextId("default-rate"));
+        defaultRate.setNightly(new BigDecimal(nightly));
+        defaultRate.setMinStay(1);
+        defaultRate.getDaySpecificRates().add(weekendRate(new BigDecimal(nightly).add(BigDecimal.TEN)));
+        defaultRate.getAdditionalGuestFees().add(fee(GuestTypeEnum.ADULT, 2, AmountTypeEnum.FLAT, "15.00", null));
+        return defaultRate;
+    }
+
+    /**
+     * Consecutive rate tables of the given length (in nights) from {@link #FIRST_DAY}, each with its own
+     * nightly rate, a weekend rate and an adult fee.
+     */
+    List<RateTableModel> consecutiveRateTables(int count, int nightsPerTable) {
+        List<RateTableModel> rateTables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate startDate = FIRST_DAY.plusDays((long) i * nightsPerTable);
+            RateTableModel rateTable = rateTable(startDate, startDate.plusDays(nightsPerTable - 1L),
+                    BigDecimal.valueOf(100 + i % 50));
+            rateTable.getAdditionalGuestFees().add(fee(GuestTypeEnum.ADULT, 2, AmountTypeEnum.PERCENT, "10.00", null));
+            rateTables.add(rateTable);
+        }
+        return rateTables;
+    }
+
+    /**
+     * Rate table with one child fee per age bucket of {@code bucketWidth} years, from age 0 to 17.
+     */
+    RateTableModel rateTableWithChildBuckets(LocalDate startDate, LocalDate endDate, int bucketWidth) {
+        RateTableModel rateTable = rateTable(startDate, endDate, new BigDecimal("120.00"));
+        rateTable.getAdditionalGuestFees().add(fee(GuestTypeEnum.ADULT, 2, AmountTypeEnum.FLAT, "20.00", null));
+        for (int fromAge = 0; fromAge < 18; fromAge += bucketWidth) {
+            AgeBucketEmbeddable ageBucket = new AgeBucketEmbeddable();
+            ageBucket.setFromAge(fromAge);
+            ageBucket.setToAge(Math.min(17, fromAge + bucketWidth - 1));
+            AmountTypeEnum amountType = fromAge % 2 == 0 ? AmountTypeEnum.FLAT : AmountTypeEnum.PERCENT;
+            rateTable.getAdditionalGuestFees().add(fee(GuestTypeEnum.CHILD, 1 + fromAge % 3, amountType, "5.00", ageBucket));
+        }
+        return rateTable;
+    }
+
+    private RateTableModel rateTable(LocalDate startDate, LocalDate endDate, BigDecimal nightly) {
+        RateTableModel rateTable = new RateTableModel();
+        rateTable.setId(nextId("rate-table"));
+        rateTable.setName("Rate table " + startDate);
+        rateTable.setStartDate(startDate);
+        rateTable.setEndDate(endDate);
+        rateTable.setNightly(nightly);
+        rateTable.setMinStay(2);
+        rateTable.setMaxStay(28);
+        rateTable.getDaySpecificRates().add(weekendRate(nightly.add(new BigDecimal("25.00"))));
+        return rateTable;
+    }
+
+    private DaySpecificRateModel weekendRate(BigDecimal nightly) {
+        DaySpecificRateModel daySpecificRate = new DaySpecificRateModel();
+        daySpecificRate.setId(nextId("day-specific-rate"));
+        daySpecificRate.setNightly(nightly);
+        daySpecificRate.setDays(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+        return daySpecificRate;
+    }
+
+    private AdditionalGuestFeeModel fee(GuestTypeEnum guestType, int guestCount, AmountTypeEnum amountType,
+                                        String value, AgeBucketEmbeddable ageBucket) {
+        AdditionalGuestFeeModel fee = new AdditionalGuestFeeModel();
+        fee.setId(nextId("fee"));
+        fee.setGuestType(guestType);
+        fee.setGuestCount(guestCount);
+        fee.setAmountType(amountType);
+        fee.setValue(new BigDecimal(value));
+        fee.setAgeBucket(ageBucket);
+        return fee;
+    }
+
+    private String nextId(String prefix) {
+        return prefix + "-" + sequence++;
+    }
+
+    /**
+     * Price calculation request of the segment for a stay starting {@code offsetDays} after {@link #FIRST_DAY}.
+     */
+    static PriceCalculationPostResource request(List<String> unitIds, int offsetDays, int nights, GuestsResource guests) {
+        LocalDate checkinDate = FIRST_DAY.plusDays(offsetDays);
+        PriceCalculationPostResource request = new PriceCalculationPostResource();
+        request.setCheckinDate(checkinDate.format(EpochDays.DATE_FORMATTER));
+        request.setCheckoutDate(checkinDate.plusDays(nights).format(EpochDays.DATE_FORMATTER));
+        request.setGuests(guests);
+        request.setSegmentId(SEGMENT_ID);
+        request.setUnits(unitIds);
+        return request;
+    }
+
+    /**
+     * Guests: the given number of adults, and one child of each given age.
+     */
+    static GuestsResource guests(int adults, int... childAges) {
+        GuestsResource guests = new GuestsResource();
+        guests.setAdults(adults);
+        for (int age : childAges) {
+            ChildResource child = new ChildResource();
+            child.setAge(age);
+            child.setQuantity(1);
+            guests.getChildren().add(child);
+        }
+        return guests;
+    }
+
+    private final class FixtureSnapshotService implements PricingSnapshotService {
+
+        @Override
+        public Map<String, UnitPricingSnapshot> getSnapshots(Collection<String> unitIds) {
+            Map<String, UnitPricingSnapshot> result = new HashMap<>();
+            for (String unitId : unitIds) {
+                UnitPricingSnapshot snapshot = snapshots.get(unitId);
+                if (snapshot != null) {
+                    result.put(unitId, snapshot);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void onPricingDataChanged(PricingDataChangedEvent event) {
+        }
+    }
+
+    private static final class NoOccupancyService implements OccupancyService {
+
+        @Override
+        public boolean isInitialized() {
+            return true;
+        }
+
+        @Override
+        public Map<String, int[]> getOccupancies(Collection<String> ratePlanIds, LocalDate startDate, int nights) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public void onBookingChanged(BookingChangedEvent event) {
+        }
+    }
+
+    private static final class NoQuoteCacheService implements QuoteCacheService {
+
+        @Override
+        public UnitPricingGetResource get(QuoteKey key, UnitPricingSnapshot snapshot) {
+            return null;
+        }
+
+        @Override
+        public void put(QuoteKey key, UnitPricingSnapshot snapshot, UnitPricingGetResource unitPricing) {
+        }
+
+        @Override
+        public void onPricingDataChanged(PricingDataChangedEvent event) {
+        }
+    }
+}
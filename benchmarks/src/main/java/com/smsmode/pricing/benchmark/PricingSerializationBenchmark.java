@@ -0,0 +1,65 @@
+package com.smsmode.pricing.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smsmode.pricing.enumeration.NightRatesModeEnum;
+import com.smsmode.pricing.resource.common.UnitPricingGetResource;
+import com.smsmode.pricing.resource.pricecalculation.PriceCalculationPostResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the JSON rendering of priced stays, with one night rate resource per night, written
+ * to a discarding stream so only serialization is measured. Run with {@code -prof gc} for B/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingSerializationBenchmark {
+
+    /**
+     * One unit priced for a long stay crossing weekly rate tables, in NIGHTS mode.
+     */
+    @State(Scope.Benchmark)
+    public static class PricedLongStay {
+
+        @Param({"30", "365"})
+        int nights;
+
+        ObjectMapper objectMapper;
+        List<UnitPricingGetResource> unitPricings;
+
+        @Setup
+        public void setUp() {
+            PricingFixture fixture = new PricingFixture();
+            fixture.addUnit("unit-0", fixture.defaultRate("100.00"), fixture.consecutiveRateTables(104, 7));
+            PriceCalculationPostResource request = PricingFixture.request(List.of("unit-0"), 7, nights,
+                    PricingFixture.guests(3, 4));
+            request.setNightRatesMode(NightRatesModeEnum.NIGHTS);
+            unitPricings = fixture.createService().calculatePricing(request).getBody();
+            // As configured by spring.jackson.default-property-inclusion
+            objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        }
+    }
+
+    @Benchmark
+    public void serializeLongStay(PricedLongStay state) throws IOException {
+        state.objectMapper.writeValue(OutputStream.nullOutputStream(), state.unitPricings);
+    }
+}
@@ -0,0 +1,24 @@
+package com.smsmode.pricing.config;
+
+import com.smsmode.pricing.event.BookingChangedEvent;
+import com.smsmode.pricing.service.OccupancyService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Configuration class declaring the event consumers bound by Spring Cloud Stream
+ * (see spring.cloud.function.definition).
+ */
+@Configuration
+public class EventConfig {
+
+    /**
+     * Keeps occupancy current from booking and cancellation events.
+     */
+    @Bean
+    public Consumer<BookingChangedEvent> processBookingChangedInputEvent(OccupancyService occupancyService) {
+        return occupancyService::onBookingChanged;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) Calade Technologies, Inc - All Rights Reserved Unauthorized copying of this file,
+ * via any medium is strictly prohibited Proprietary and confidential
+ */
+package com.smsmode.pricing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the in-memory occupancy, bound from {@code pricing.occupancy.*}.
+ *
+ * <p>Occupancy starts from a snapshot of the active bookings and is then kept current by booking
+ * events. Until the snapshot is loaded, DYNAMIC rate tables are not priced.
+ * Without a snapshot URL, occupancy starts empty and is built from booking events only.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "pricing.occupancy")
+public class OccupancyProperties {
+
+    /**
+     * URL returning the active bookings (checkout after today) as a JSON array of booking events.
+     * Blank when there is no snapshot source.
+     */
+    private String snapshotUrl;
+
+    /**
+     * Delay between two attempts to load the occupancy snapshot, until one succeeds.
+     */
+    private Duration snapshotRetryInterval = Duration.ofSeconds(30);
+
+    /**
+     * Time a cancellation received without stay dates is remembered, so that its booking event
+     * delivered later is not counted.
+     */
+    private Duration cancellationRetention = Duration.ofDays(30);
+}
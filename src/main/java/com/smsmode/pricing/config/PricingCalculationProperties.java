@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) Calade Technologies, Inc - All Rights Reserved Unauthorized copying of this file,
+ * via any medium is strictly prohibited Proprietary and confidential
+ */
+package com.smsmode.pricing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the price calculation, bound from {@code pricing.calculation.*}.
+ *
+ * <p>In parallel mode, the units of a request are split into groups priced concurrently on virtual
+ * threads. Loading pricing data is the only part using a database connection, so the number of
+ * concurrent loads is capped to keep the connection pool available for the rest of the application.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "pricing.calculation")
+public class PricingCalculationProperties {
+
+    /**
+     * Prices the units of a request concurrently on virtual threads.
+     */
+    private boolean parallelEnabled = false;
+
+    /**
+     * Number of units loaded and priced together by one virtual thread.
+     */
+    private int unitsPerTask = 25;
+
+    /**
+     * Maximum number of concurrent pricing data loads, hence of database connections used by pricing.
+     */
+    private int maxConcurrentDatabaseLoads = 4;
+
+    /**
+     * Maximum number of check-in dates returned by a price calendar, longer windows are rejected.
+     */
+    private int calendarMaxDays = 366;
+
+    /**
+     * Maximum number of unit pricings computed ahead of the client in a streamed price calculation,
+     * pricing pauses while the client does not read them.
+     */
+    private int streamBufferSize = 256;
+
+    /**
+     * Maximum number of cached unit pricing snapshots, the least recently used are evicted beyond it.
+     */
+    private long snapshotCacheMaximumSize = 10000;
+
+    /**
+     * Time a pricing snapshot is kept after being loaded. Snapshots are dropped on changes made through
+     * this instance only, so this bounds how long changes made through other instances go unseen.
+     */
+    private Duration snapshotCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Caches unit pricings by unit, stay, guests, segment and night rates mode.
+     */
+    private boolean quoteCacheEnabled = true;
+
+    /**
+     * Maximum number of cached unit pricings, the least recently used are evicted beyond it.
+     */
+    private long quoteCacheMaximumSize = 10000;
+
+    /**
+     * Time a cached unit pricing is kept after being computed.
+     */
+    private Duration quoteCacheTtl = Duration.ofMinutes(5);
+}
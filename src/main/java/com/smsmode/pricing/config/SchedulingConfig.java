@@ -0,0 +1,16 @@
+/**
+ * Copyright (C) Calade Technologies, Inc - All Rights Reserved Unauthorized copying of this file,
+ * via any medium is strictly prohibited Proprietary and confidential
+ */
+package com.smsmode.pricing.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling the execution of methods annotated with {@code @Scheduled}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
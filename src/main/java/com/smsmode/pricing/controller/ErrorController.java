@@ -7,6 +7,8 @@ package com.smsmode.pricing.controller;
 import com.smsmode.pricing.exception.AbstractBaseException;
 import com.smsmode.pricing.resource.error.ErrorDetailsResource;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
@@ -42,4 +44,28 @@ public interface ErrorController {
      */
     ResponseEntity<ErrorDetailsResource> handleValidationError(
             MethodArgumentNotValidException e, HttpServletRequest request);
+
+    /**
+     * Handles exceptions of type {@link DataIntegrityViolationException}: a rate table overlapping
+     * another one of the same rate plan and type, detected by the database at commit, is a conflict.
+     *
+     * @param e       The exception to be handled.
+     * @param request The HTTP request where the exception occurred.
+     * @return A {@link ResponseEntity} containing an {@link ErrorDetailsResource} with details about
+     * the conflict.
+     */
+    ResponseEntity<ErrorDetailsResource> handleDataIntegrityViolation(
+            DataIntegrityViolationException e, HttpServletRequest request);
+
+    /**
+     * Handles exceptions of type {@link OptimisticLockingFailureException}: a write based on a stale
+     * version of a rate plan, rate table or default rate is a conflict.
+     *
+     * @param e       The exception to be handled.
+     * @param request The HTTP request where the exception occurred.
+     * @return A {@link ResponseEntity} containing an {@link ErrorDetailsResource} with details about
+     * the conflict.
+     */
+    ResponseEntity<ErrorDetailsResource> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException e, HttpServletRequest request);
 }
@@ -0,0 +1,23 @@
+package com.smsmode.pricing.controller;
+
+import com.smsmode.pricing.resource.pricecalendar.PriceCalendarPostResource;
+import com.smsmode.pricing.resource.pricecalendar.UnitPriceCalendarGetResource;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller interface for Price Calendar REST endpoints.
+ */
+@RequestMapping("price-calendars")
+public interface PriceCalendarController {
+
+    /**
+     * Calculates the nightly rate and min/max stay of every check-in date of a window for units.
+     */
+    @PostMapping
+    ResponseEntity<List<UnitPriceCalendarGetResource>> calculateCalendar(
+            @Valid @RequestBody PriceCalendarPostResource priceCalendarPostResource);
+}
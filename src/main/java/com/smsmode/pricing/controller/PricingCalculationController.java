@@ -3,8 +3,10 @@ package com.smsmode.pricing.controller;
 import com.smsmode.pricing.resource.common.UnitPricingGetResource;
 import com.smsmode.pricing.resource.pricecalculation.PriceCalculationPostResource;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,4 +22,12 @@ public interface PricingCalculationController {
     @PostMapping
     ResponseEntity<List<UnitPricingGetResource>> calculatePricing(
             @Valid @RequestBody PriceCalculationPostResource priceCalculationPostResource);
+
+    /**
+     * Calculates pricing for units like {@link #calculatePricing}, streaming each unit's pricing as a
+     * line of JSON as soon as it is computed; a unit that cannot be priced gets an error line.
+     */
+    @PostMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamPricing(
+            @Valid @RequestBody PriceCalculationPostResource priceCalculationPostResource);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.smsmode.pricing.controller;
 
+import com.smsmode.pricing.resource.ratetable.RateTableBulkPostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkResultGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTableGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePatchResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePostResource;
@@ -9,6 +11,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller interface for RateTable REST endpoints.
  */
@@ -21,6 +25,12 @@ public interface RateTableController {
     @PostMapping
     ResponseEntity<RateTableGetResource> create(@Valid @RequestBody RateTablePostResource rateTablePostResource);
 
+    /**
+     * Creates and updates many rate tables of a rate plan at once.
+     */
+    @PostMapping("/bulk")
+    ResponseEntity<List<RateTableBulkResultGetResource>> bulkUpsert(@Valid @RequestBody RateTableBulkPostResource rateTableBulkPostResource);
+
     /**
      * Retrieves rate tables with filters and pagination.
      */
@@ -6,10 +6,13 @@ package com.smsmode.pricing.controller.impl;
 
 import com.smsmode.pricing.controller.ErrorController;
 import com.smsmode.pricing.exception.*;
+import com.smsmode.pricing.exception.enumeration.ConflictExceptionTitleEnum;
 import com.smsmode.pricing.exception.enumeration.MethodArgumentsExceptionTitleEnum;
 import com.smsmode.pricing.resource.error.ErrorDetailsResource;
 import com.smsmode.pricing.resource.error.ValidationErrorResource;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +39,9 @@ import java.util.List;
 @ControllerAdvice
 public class ErrorControllerImpl implements ErrorController {
 
+    // PostgreSQL exclusion_violation, raised by the EX_RATE_TABLE_NO_OVERLAP constraint
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+
     /**
      * {@inheritDoc}
      */
@@ -43,6 +50,7 @@ public class ErrorControllerImpl implements ErrorController {
             AuthenticationUnauthorizedException.class,
             AuthorizationForbiddenException.class,
             TooManyRequestException.class,
+            BadRequestException.class,
             ResourceNotFoundException.class,
             ConflictException.class
     })
@@ -86,4 +94,34 @@ public class ErrorControllerImpl implements ErrorController {
         }
         return new ResponseEntity<>(errorDetailResource, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Other integrity violations are rethrown as they are.
+     */
+    @Override
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDetailsResource> handleDataIntegrityViolation(
+            DataIntegrityViolationException e, HttpServletRequest request) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return handleGenericExceptions(new ConflictException(ConflictExceptionTitleEnum.OVERLAPPING_RATE_TABLE_DATES,
+                        "Rate table dates overlap with existing rate table of same type"), request);
+            }
+        }
+        throw e;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDetailsResource> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException e, HttpServletRequest request) {
+        return handleGenericExceptions(new ConflictException(ConflictExceptionTitleEnum.CONCURRENT_MODIFICATION,
+                "Pricing data was modified concurrently, reload it and retry"), request);
+    }
 }
@@ -0,0 +1,30 @@
+package com.smsmode.pricing.controller.impl;
+
+import com.smsmode.pricing.controller.PriceCalendarController;
+import com.smsmode.pricing.resource.pricecalendar.PriceCalendarPostResource;
+import com.smsmode.pricing.resource.pricecalendar.UnitPriceCalendarGetResource;
+import com.smsmode.pricing.service.PriceCalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Implementation of PriceCalendarController for managing price calendar REST endpoints.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class PriceCalendarControllerImpl implements PriceCalendarController {
+
+    private final PriceCalendarService priceCalendarService;
+
+    @Override
+    public ResponseEntity<List<UnitPriceCalendarGetResource>> calculateCalendar(PriceCalendarPostResource priceCalendarPostResource) {
+        log.debug("POST /price-calendars - Calculating price calendar for {} units",
+                priceCalendarPostResource.getUnits().size());
+        return priceCalendarService.calculateCalendar(priceCalendarPostResource);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,4 +28,11 @@ public class PricingCalculationControllerImpl implements PricingCalculationContr
                 priceCalculationPostResource.getUnits().size());
         return pricingCalculationService.calculatePricing(priceCalculationPostResource);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPricing(PriceCalculationPostResource priceCalculationPostResource) {
+        log.debug("POST /price-calculations/stream - Streaming pricing for {} units",
+                priceCalculationPostResource.getUnits().size());
+        return pricingCalculationService.streamPricing(priceCalculationPostResource);
+    }
 }
\ No newline at end of file
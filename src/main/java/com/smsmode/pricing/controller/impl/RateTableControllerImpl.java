@@ -1,6 +1,8 @@
 package com.smsmode.pricing.controller.impl;
 
 import com.smsmode.pricing.controller.RateTableController;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkPostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkResultGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTableGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePatchResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePostResource;
@@ -12,6 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Implementation of RateTableController for managing rate table REST endpoints.
  */
@@ -28,6 +32,13 @@ public class RateTableControllerImpl implements RateTableController {
         return rateTableService.create(rateTablePostResource);
     }
 
+    @Override
+    public ResponseEntity<List<RateTableBulkResultGetResource>> bulkUpsert(RateTableBulkPostResource rateTableBulkPostResource) {
+        log.debug("POST /rate-tables/bulk - Upserting {} rate tables for ratePlan: {}",
+                rateTableBulkPostResource.getRateTables().size(), rateTableBulkPostResource.getRatePlan().getId());
+        return rateTableService.bulkUpsert(rateTableBulkPostResource);
+    }
+
     @Override
     public ResponseEntity<Page<RateTableGetResource>> getAll(String ratePlanUuid, String search, Pageable pageable) {
         log.debug("GET /rate-tables - Retrieving rate tables for ratePlan: {}, search: {}", ratePlanUuid, search);
@@ -6,14 +6,14 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
 import java.time.DayOfWeek;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Converter
 public class DayOfWeekSetConverter implements AttributeConverter<Set<DayOfWeek>, String> {
 
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
     /**
      * Converts a Set<DayOfWeek> to a comma-separated string of ordinal values for database storage.
      */
@@ -22,21 +22,49 @@ public class DayOfWeekSetConverter implements AttributeConverter<Set<DayOfWeek>,
         if (CollectionUtils.isEmpty(dayOfWeeks)) {
             return null;
         }
-        return dayOfWeeks.stream()
-                .map(day -> String.valueOf(day.ordinal()))
-                .collect(Collectors.joining(","));
+        StringBuilder dbData = new StringBuilder(dayOfWeeks.size() * 2);
+        for (DayOfWeek day : dayOfWeeks) {
+            if (!dbData.isEmpty()) {
+                dbData.append(',');
+            }
+            dbData.append(day.ordinal());
+        }
+        return dbData.toString();
     }
 
     /**
      * Converts a comma-separated string of ordinal values back to a Set<DayOfWeek>.
+     * Parsed in a single pass, without splitting the string.
      */
     @Override
     public Set<DayOfWeek> convertToEntityAttribute(String dbData) {
+        Set<DayOfWeek> days = new LinkedHashSet<>();
         if (ObjectUtils.isEmpty(dbData)) {
-            return new LinkedHashSet<>();
+            return days;
+        }
+        int ordinal = -1;
+        for (int i = 0; i < dbData.length(); i++) {
+            char c = dbData.charAt(i);
+            if (c == ',') {
+                addDay(days, ordinal, dbData);
+                ordinal = -1;
+            } else if (c >= '0' && c <= '9') {
+                ordinal = (ordinal < 0 ? 0 : ordinal * 10) + (c - '0');
+                if (ordinal >= DAYS.length) {
+                    throw new IllegalArgumentException("Invalid day of week list: " + dbData);
+                }
+            } else if (!Character.isWhitespace(c)) {
+                throw new IllegalArgumentException("Invalid day of week list: " + dbData);
+            }
+        }
+        addDay(days, ordinal, dbData);
+        return days;
+    }
+
+    private static void addDay(Set<DayOfWeek> days, int ordinal, String dbData) {
+        if (ordinal < 0 || ordinal >= DAYS.length) {
+            throw new IllegalArgumentException("Invalid day of week list: " + dbData);
         }
-        return Arrays.stream(dbData.split(","))
-                .map(s -> DayOfWeek.values()[Integer.parseInt(s)])
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        days.add(DAYS[ordinal]);
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import com.smsmode.pricing.model.DefaultRateModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 
 /**
  * TODO: add your documentation
@@ -40,6 +42,16 @@ public interface DefaultRateDaoService {
      */
     DefaultRateModel findWithRelatedDataForPricing(String unitId);
 
+    /**
+     * Finds the default rates of several units with all related data (additional guest fees and day-specific rates)
+     * for batched pricing calculations. Uses set-based queries whose count does not depend on the number of units.
+     * Database errors propagate, so a failed load is never mistaken for units without default rate.
+     *
+     * @param unitIds The unit IDs to find default rates for
+     * @return Default rates with all related data loaded (units without default rate are absent)
+     */
+    List<DefaultRateModel> findAllWithRelatedDataForPricing(Collection<String> unitIds);
+
     /**
      * Finds default rate for a unit without pagination (convenience method for pricing calculations).
      * Returns the first default rate found for the unit.
@@ -4,6 +4,7 @@ import com.smsmode.pricing.model.RatePlanModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -22,6 +23,11 @@ public interface RatePlanDaoService {
      */
     List<RatePlanModel> findEnabledRatePlansWithOverlappingSegments(Set<String> segmentUuids);
 
+    /**
+     * Finds the enabled rate plans of the given units, with their segments loaded.
+     */
+    List<RatePlanModel> findEnabledWithSegmentsByUnitIds(Collection<String> unitIds);
+
     /**
      * Disables multiple rate plans by setting enabled=false.
      */
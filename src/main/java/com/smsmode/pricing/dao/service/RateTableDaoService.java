@@ -1,11 +1,12 @@
 package com.smsmode.pricing.dao.service;
 
-import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import com.smsmode.pricing.engine.RateTableInterval;
 import com.smsmode.pricing.model.RateTableModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,10 +15,18 @@ import java.util.List;
 public interface RateTableDaoService {
 
     /**
-     * Saves a rate table.
+     * Saves and flushes a rate table.
+     * Overlapping a rate table of the same rate plan and type fails the transaction at commit
+     * (deferred EX_RATE_TABLE_NO_OVERLAP constraint).
      */
     RateTableModel save(RateTableModel rateTableModel);
 
+    /**
+     * Saves and flushes several rate tables as JDBC batches (see hibernate.jdbc.batch_size).
+     * Non-overlap is checked at commit, on the final dates of all of them, so rows may be written in any order.
+     */
+    List<RateTableModel> saveAll(List<RateTableModel> rateTableModels);
+
     /**
      * Finds rate tables with filters and pagination.
      */
@@ -34,10 +43,12 @@ public interface RateTableDaoService {
     void delete(RateTableModel rateTableModel);
 
     /**
-     * Checks if there are overlapping rate tables for validation.
-     * Returns true if overlapping rate tables exist for the same rate plan and type.
+     * Pre-checks a batch of proposed rate tables of a rate plan with a single query, to report
+     * overlaps per rate table (the database enforces non-overlap at commit anyway).
+     * Returns the proposed rate tables overlapping an existing rate table of the same type (other than
+     * themselves) or another proposed rate table, in proposal order.
      */
-    boolean hasOverlappingRateTables(String ratePlanUuid, RateTableTypeEnum type, LocalDate startDate, LocalDate endDate, String excludeId);
+    List<RateTableInterval> findOverlappingRateTables(String ratePlanUuid, List<RateTableInterval> proposedRateTables);
 
     // ========== PRICING CALCULATION EXTENSIONS ==========
 
@@ -57,7 +68,20 @@ public interface RateTableDaoService {
     List<RateTableModel> findCoveringRateTables(String ratePlanId, LocalDate checkinDate, LocalDate checkoutDate);
 
     /**
-     * Finds the rate table that covers a specific date for a rate plan.
+     * Finds all rate tables of several rate plans, with their additional guest fees and day-specific
+     * rates loaded, for building pricing snapshots.
+     * Uses set-based queries whose count does not depend on the number of rate plans.
+     *
+     * Database errors propagate, so a failed load is never mistaken for rate plans without rate tables.
+     *
+     * @param ratePlanIds The rate plan IDs to search rate tables for
+     * @return List of all rate tables of the rate plans
+     */
+    List<RateTableModel> findAllWithRelatedDataForPricing(Collection<String> ratePlanIds);
+
+    /**
+     * Finds the rate table that covers a specific date for a rate plan, through the GiST index of
+     * the non-overlap constraint.
      *
      * @param ratePlanId The rate plan ID
      * @param date The specific date to find coverage for
@@ -20,7 +20,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +38,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DefaultRateDaoServiceImpl implements DefaultRateDaoService {
 
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
     private final DefaultRateRepository defaultRateRepository;
     @PersistenceContext
     private EntityManager entityManager;
@@ -69,32 +73,51 @@ public class DefaultRateDaoServiceImpl implements DefaultRateDaoService {
     public DefaultRateModel findWithRelatedDataForPricing(String unitId) {
         log.debug("Finding default rate with related data for pricing calculations - unit: {}", unitId);
 
-        try {
-            // Step 1: Use existing specification-based method
-            Page<DefaultRateModel> results = findByUnitId(unitId, Pageable.unpaged());
+        // Step 1: Same fetch graphs as the batch read, instead of initializing each collection lazily
+        List<DefaultRateModel> results = findAllWithRelatedDataForPricing(List.of(unitId));
 
-            if (results.isEmpty()) {
-                log.debug("No default rate found for unit: {}", unitId);
-                return null;
-            }
+        if (results.isEmpty()) {
+            log.debug("No default rate found for unit: {}", unitId);
+            return null;
+        }
 
-            DefaultRateModel defaultRate = results.getContent().get(0);
+        DefaultRateModel defaultRate = results.get(0);
+        log.debug("Found default rate with {} additional guest fees and {} day-specific rates for unit: {}",
+                defaultRate.getAdditionalGuestFees().size(),
+                defaultRate.getDaySpecificRates().size(),
+                unitId);
 
-            // Step 2: Force loading of lazy collections
-            defaultRate.getAdditionalGuestFees().size(); // Trigger lazy loading
-            defaultRate.getDaySpecificRates().size();    // Trigger lazy loading
+        return defaultRate;
+    }
 
-            log.debug("Found default rate with {} additional guest fees and {} day-specific rates for unit: {}",
-                    defaultRate.getAdditionalGuestFees().size(),
-                    defaultRate.getDaySpecificRates().size(),
-                    unitId);
+    @Override
+    public List<DefaultRateModel> findAllWithRelatedDataForPricing(Collection<String> unitIds) {
+        log.debug("Finding default rates with related data for pricing calculations - {} units", unitIds.size());
 
-            return defaultRate;
+        if (CollectionUtils.isEmpty(unitIds)) {
+            return List.of();
+        }
 
-        } catch (Exception e) {
-            log.error("Error finding default rate with related data for unit: {}", unitId, e);
-            return null;
+        // Errors propagate: an empty result would be taken for units without default rate
+        // Step 1: Default rates of all units with their additional guest fees (single IN query)
+        TypedQuery<DefaultRateModel> query = entityManager.createQuery(
+                "select d from DefaultRateModel d where d.unit.id in :unitIds", DefaultRateModel.class);
+        query.setParameter("unitIds", unitIds);
+        query.setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(DefaultRateModel.GRAPH_ADDITIONAL_GUEST_FEES));
+        List<DefaultRateModel> defaultRates = query.getResultList();
+
+        // Step 2: Day-specific rates of the same default rates (two bags cannot be fetched by one query)
+        if (!defaultRates.isEmpty()) {
+            EntityGraph<?> daySpecificRatesGraph = entityManager.getEntityGraph(DefaultRateModel.GRAPH_DAY_SPECIFIC_RATES);
+            entityManager.createQuery(
+                            "select d from DefaultRateModel d where d in :defaultRates", DefaultRateModel.class)
+                    .setParameter("defaultRates", defaultRates)
+                    .setHint(FETCH_GRAPH_HINT, daySpecificRatesGraph)
+                    .getResultList();
         }
+
+        log.debug("Found {} default rates for {} units", defaultRates.size(), unitIds.size());
+        return defaultRates;
     }
 
     @Override
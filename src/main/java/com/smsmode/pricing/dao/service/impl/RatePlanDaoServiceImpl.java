@@ -16,6 +16,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -48,6 +49,19 @@ public class RatePlanDaoServiceImpl implements RatePlanDaoService {
         return ratePlanRepository.findAll(spec);
     }
 
+    @Override
+    public List<RatePlanModel> findEnabledWithSegmentsByUnitIds(Collection<String> unitIds) {
+        log.debug("Finding enabled rate plans with segments for {} units", unitIds.size());
+        if (CollectionUtils.isEmpty(unitIds)) {
+            return Collections.emptyList();
+        }
+
+        return entityManager.createQuery(
+                        "select distinct p from RatePlanModel p left join fetch p.segments " +
+                                "where p.enabled = true and p.unit.id in :unitIds", RatePlanModel.class)
+                .setParameter("unitIds", unitIds)
+                .getResultList();
+    }
 
     @Override
     public void disableRatePlans(List<RatePlanModel> ratePlansToDisable) {
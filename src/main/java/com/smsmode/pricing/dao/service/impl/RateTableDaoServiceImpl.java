@@ -3,18 +3,24 @@ package com.smsmode.pricing.dao.service.impl;
 import com.smsmode.pricing.dao.repository.RateTableRepository;
 import com.smsmode.pricing.dao.service.RateTableDaoService;
 import com.smsmode.pricing.dao.specification.RateTableSpecification;
-import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import com.smsmode.pricing.engine.RateTableInterval;
+import com.smsmode.pricing.engine.RateTableIntervalIndex;
 import com.smsmode.pricing.exception.ResourceNotFoundException;
 import com.smsmode.pricing.exception.enumeration.ResourceNotFoundExceptionTitleEnum;
 import com.smsmode.pricing.model.RateTableModel;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,12 +33,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RateTableDaoServiceImpl implements RateTableDaoService {
 
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
     private final RateTableRepository rateTableRepository;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public RateTableModel save(RateTableModel rateTableModel) {
         log.debug("Saving rate table: {}", rateTableModel.getName());
-        return rateTableRepository.save(rateTableModel);
+        return rateTableRepository.saveAndFlush(rateTableModel);
+    }
+
+    @Override
+    public List<RateTableModel> saveAll(List<RateTableModel> rateTableModels) {
+        log.debug("Saving {} rate tables", rateTableModels.size());
+        return rateTableRepository.saveAllAndFlush(rateTableModels);
     }
 
     @Override
@@ -64,22 +80,29 @@ public class RateTableDaoServiceImpl implements RateTableDaoService {
     }
 
     @Override
-    public boolean hasOverlappingRateTables(String ratePlanUuid, RateTableTypeEnum type,
-                                            LocalDate startDate, LocalDate endDate, String excludeId) {
-        log.debug("Checking overlapping rate tables for ratePlan: {}, type: {}, dates: {} to {}",
-                ratePlanUuid, type, startDate, endDate);
-
-        Specification<RateTableModel> specification = Specification
-                .where(RateTableSpecification.withOverlappingDates(ratePlanUuid, type, startDate, endDate));
+    public List<RateTableInterval> findOverlappingRateTables(String ratePlanUuid, List<RateTableInterval> proposedRateTables) {
+        log.debug("Checking {} proposed rate tables for overlaps in rate plan: {}", proposedRateTables.size(), ratePlanUuid);
 
-        if (excludeId != null) {
-            specification = specification.and(RateTableSpecification.excludingId(excludeId));
+        if (proposedRateTables.isEmpty()) {
+            return List.of();
         }
 
-        boolean hasOverlap = rateTableRepository.exists(specification);
-        log.debug("Overlapping check result: {}", hasOverlap);
+        List<RateTableInterval> overlapping = loadIntervalIndex(ratePlanUuid).findOverlapping(proposedRateTables);
+        log.debug("Found {} overlapping proposed rate tables", overlapping.size());
+
+        return overlapping;
+    }
 
-        return hasOverlap;
+    /**
+     * Loads the dates of all rate tables of a rate plan (single query) into an interval index.
+     */
+    private RateTableIntervalIndex loadIntervalIndex(String ratePlanUuid) {
+        List<RateTableInterval> intervals = entityManager.createQuery(
+                        "select new com.smsmode.pricing.engine.RateTableInterval(t.id, t.type, t.startDate, t.endDate) " +
+                                "from RateTableModel t where t.ratePlan.id = :ratePlanId", RateTableInterval.class)
+                .setParameter("ratePlanId", ratePlanUuid)
+                .getResultList();
+        return RateTableIntervalIndex.of(intervals);
     }
 
     // ========== PRICING CALCULATION IMPLEMENTATIONS ==========
@@ -110,25 +133,58 @@ public class RateTableDaoServiceImpl implements RateTableDaoService {
         }
     }
 
+    @Override
+    public List<RateTableModel> findAllWithRelatedDataForPricing(Collection<String> ratePlanIds) {
+        log.debug("Finding rate tables with related data for {} rate plans", ratePlanIds.size());
+
+        if (CollectionUtils.isEmpty(ratePlanIds)) {
+            return List.of();
+        }
+
+        // Errors propagate: an empty result would be taken for rate plans without rate tables
+        // Step 1: Rate tables of all rate plans, with their additional guest fees
+        EntityGraph<?> additionalGuestFeesGraph = entityManager.getEntityGraph(RateTableModel.GRAPH_ADDITIONAL_GUEST_FEES);
+        List<RateTableModel> rateTables = entityManager.createQuery(
+                        "select t from RateTableModel t where t.ratePlan.id in :ratePlanIds", RateTableModel.class)
+                .setParameter("ratePlanIds", ratePlanIds)
+                .setHint(FETCH_GRAPH_HINT, additionalGuestFeesGraph)
+                .getResultList();
+
+        // Step 2: Day-specific rates of the same rate tables (two bags cannot be fetched by one query)
+        if (!rateTables.isEmpty()) {
+            EntityGraph<?> daySpecificRatesGraph = entityManager.getEntityGraph(RateTableModel.GRAPH_DAY_SPECIFIC_RATES);
+            entityManager.createQuery(
+                            "select t from RateTableModel t where t in :rateTables", RateTableModel.class)
+                    .setParameter("rateTables", rateTables)
+                    .setHint(FETCH_GRAPH_HINT, daySpecificRatesGraph)
+                    .getResultList();
+        }
+
+        log.debug("Found {} rate tables for {} rate plans", rateTables.size(), ratePlanIds.size());
+        return rateTables;
+    }
+
     @Override
     public RateTableModel findRateTableForDate(String ratePlanId, LocalDate date) {
         log.debug("Finding rate table for rate plan: {} on date: {}", ratePlanId, date);
 
         try {
-            // Step 1: Build specification for rate table covering specific date
-            Specification<RateTableModel> specification = Specification
-                    .where(RateTableSpecification.withRatePlanUuid(ratePlanId))
-                    .and(RateTableSpecification.withSpecificDateCoverage(date));
-
-            // Step 2: Find first matching rate table
-            List<RateTableModel> matchingTables = rateTableRepository.findAll(specification);
+            // Step 1: Containment on the DATES range, served by the GiST index of the non-overlap constraint
+            @SuppressWarnings("unchecked")
+            List<RateTableModel> matchingTables = entityManager.createNativeQuery(
+                            "select * from RATE_TABLE t where t.RATE_PLAN_ID = cast(:ratePlanId as uuid) " +
+                                    "and t.DATES @> cast(:date as date) " +
+                                    "order by case t.TYPE when 'STANDARD' then 0 else 1 end", RateTableModel.class)
+                    .setParameter("ratePlanId", ratePlanId)
+                    .setParameter("date", date)
+                    .getResultList();
 
             if (matchingTables.isEmpty()) {
                 log.debug("No rate table found covering date: {} for rate plan: {}", date, ratePlanId);
                 return null;
             }
 
-            // Step 3: Return first match (there should be only one due to no-overlap constraint)
+            // Step 2: Return first match (one per type due to the no-overlap constraint, STANDARD first)
             RateTableModel coveringTable = matchingTables.get(0);
             log.debug("Found rate table: {} covering date: {}", coveringTable.getName(), date);
 
@@ -127,7 +127,7 @@ public class RateTableSpecification {
 
     /**
      * Creates specification to find rate tables by type for pricing calculations.
-     * Currently focuses on STANDARD type, DYNAMIC will be implemented later.
+     * Both STANDARD and DYNAMIC tables are priced; DYNAMIC tables are priced from occupancy.
      *
      * @param type The rate table type (STANDARD, DYNAMIC)
      * @return Specification for rate tables of specific type
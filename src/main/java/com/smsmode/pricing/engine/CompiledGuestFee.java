@@ -0,0 +1,44 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.AmountTypeEnum;
+import com.smsmode.pricing.model.AdditionalGuestFeeModel;
+import lombok.Getter;
+
+/**
+ * Immutable, detached copy of an additional guest fee as used by the pricing engine.
+ */
+@Getter
+public final class CompiledGuestFee {
+
+    private final int guestCount;
+    private final AmountTypeEnum amountType;
+    // Minor units: cents for a flat fee, hundredths of a percent for a percent fee
+    private final long value;
+    // Age bucket bounds (inclusive), only meaningful for CHILD fees
+    private final int fromAge;
+    private final int toAge;
+
+    private CompiledGuestFee(int guestCount, AmountTypeEnum amountType, long value, int fromAge, int toAge) {
+        this.guestCount = guestCount;
+        this.amountType = amountType;
+        this.value = value;
+        this.fromAge = fromAge;
+        this.toAge = toAge;
+    }
+
+    /**
+     * Compiles an adult additional guest fee.
+     */
+    static CompiledGuestFee adult(AdditionalGuestFeeModel fee) {
+        return new CompiledGuestFee(fee.getGuestCount(), fee.getAmountType(),
+                MoneyMath.toMinorUnits(fee.getValue()), 0, 0);
+    }
+
+    /**
+     * Compiles a child additional guest fee; the fee must have an age bucket.
+     */
+    static CompiledGuestFee child(AdditionalGuestFeeModel fee) {
+        return new CompiledGuestFee(fee.getGuestCount(), fee.getAmountType(),
+                MoneyMath.toMinorUnits(fee.getValue()), fee.getAgeBucket().getFromAge(), fee.getAgeBucket().getToAge());
+    }
+}
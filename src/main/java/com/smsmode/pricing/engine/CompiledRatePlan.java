@@ -0,0 +1,132 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.embeddable.SegmentRefEmbeddable;
+import com.smsmode.pricing.model.RatePlanModel;
+import com.smsmode.pricing.model.RateTableModel;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, detached rate plan compiled with all its rate tables.
+ *
+ * The rate table timeline is expanded into a dense array indexed by day (from the first start date
+ * to the last end date of the plan's rate tables), so resolving the table covering a night is a
+ * single array read.
+ */
+@Getter
+public final class CompiledRatePlan {
+
+    private static final int NOT_COVERED = -1;
+
+    private final String id;
+    private final String name;
+    private final Set<String> segmentIds;
+    @Getter(AccessLevel.NONE)
+    private final long firstDay;
+    @Getter(AccessLevel.NONE)
+    private final int[] rateTableIndexByDay;
+    @Getter(AccessLevel.NONE)
+    private final CompiledRateSource[] rateTables;
+    // True if at least one rate table is DYNAMIC, i.e. pricing some stays of the plan needs occupancy
+    private final boolean occupancyDependent;
+
+    private CompiledRatePlan(String id, String name, Set<String> segmentIds, long firstDay,
+                             int[] rateTableIndexByDay, CompiledRateSource[] rateTables) {
+        this.id = id;
+        this.name = name;
+        this.segmentIds = segmentIds;
+        this.firstDay = firstDay;
+        this.rateTableIndexByDay = rateTableIndexByDay;
+        this.rateTables = rateTables;
+        boolean anyDynamic = false;
+        for (CompiledRateSource rateTable : rateTables) {
+            anyDynamic |= rateTable.isDynamic();
+        }
+        this.occupancyDependent = anyDynamic;
+    }
+
+    /**
+     * Compiles a rate plan with its rate tables (their collections must be initialized).
+     */
+    public static CompiledRatePlan of(RatePlanModel ratePlan, Collection<RateTableModel> rateTableModels) {
+        Set<String> segmentIds = new HashSet<>();
+        for (SegmentRefEmbeddable segment : ratePlan.getSegments()) {
+            if (segment.getId() != null) {
+                segmentIds.add(segment.getId());
+            }
+        }
+
+        if (rateTableModels.isEmpty()) {
+            return new CompiledRatePlan(ratePlan.getId(), ratePlan.getName(), Set.copyOf(segmentIds),
+                    0, new int[0], new CompiledRateSource[0]);
+        }
+
+        // Step 1: Compile each rate table once
+        CompiledRateSource[] rateTables = new CompiledRateSource[rateTableModels.size()];
+        Map<RateTableModel, Integer> indexByModel = new IdentityHashMap<>();
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        int index = 0;
+        for (RateTableModel rateTableModel : rateTableModels) {
+            rateTables[index] = CompiledRateSource.of(rateTableModel);
+            indexByModel.put(rateTableModel, index);
+            firstDay = Math.min(firstDay, rateTableModel.getStartDate().toEpochDay());
+            lastDay = Math.max(lastDay, rateTableModel.getEndDate().toEpochDay());
+            index++;
+        }
+
+        // Step 2: Expand the timeline into one slot per day
+        RateTableTimeline timeline = RateTableTimeline.of(rateTableModels);
+        int[] rateTableIndexByDay = new int[Math.toIntExact(Math.max(0, lastDay - firstDay + 1))];
+        for (int offset = 0; offset < rateTableIndexByDay.length; offset++) {
+            RateTableModel coveringTable = timeline.findCovering(LocalDate.ofEpochDay(firstDay + offset));
+            rateTableIndexByDay[offset] = coveringTable != null ? indexByModel.get(coveringTable) : NOT_COVERED;
+        }
+
+        return new CompiledRatePlan(ratePlan.getId(), ratePlan.getName(), Set.copyOf(segmentIds),
+                firstDay, rateTableIndexByDay, rateTables);
+    }
+
+    /**
+     * Returns the compiled rate table covering the given night, or null if none.
+     */
+    public CompiledRateSource findCovering(LocalDate date) {
+        return findCovering(date.toEpochDay());
+    }
+
+    /**
+     * Returns the compiled rate table covering the given night (epoch day), or null if none.
+     */
+    public CompiledRateSource findCovering(long epochDay) {
+        long offset = epochDay - firstDay;
+        if (offset < 0 || offset >= rateTableIndexByDay.length) {
+            return null;
+        }
+        int index = rateTableIndexByDay[(int) offset];
+        return index != NOT_COVERED ? rateTables[index] : null;
+    }
+
+    /**
+     * Returns true if a night from the first (epoch day) to the last (exclusive) is covered by a
+     * DYNAMIC rate table, i.e. pricing the stay needs occupancy.
+     */
+    public boolean isOccupancyDependent(long fromDay, long toDay) {
+        if (!occupancyDependent) {
+            return false;
+        }
+        for (long day = Math.max(fromDay, firstDay); day < toDay && day - firstDay < rateTableIndexByDay.length; day++) {
+            int index = rateTableIndexByDay[(int) (day - firstDay)];
+            if (index != NOT_COVERED && rateTables[index].isDynamic()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
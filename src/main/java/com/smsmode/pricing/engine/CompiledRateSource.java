@@ -0,0 +1,194 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.GuestTypeEnum;
+import com.smsmode.pricing.enumeration.PricingSourceType;
+import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import com.smsmode.pricing.model.AdditionalGuestFeeModel;
+import com.smsmode.pricing.model.DaySpecificRateModel;
+import com.smsmode.pricing.model.DefaultRateModel;
+import com.smsmode.pricing.model.RateTableModel;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, detached pricing source compiled from a default rate or a rate table.
+ * Amounts are in minor units (see {@link MoneyMath}).
+ *
+ * The nightly and day-specific rates are folded into the effective base nightly rate of each day of
+ * week, max(nightly, day-specific), so resolving the base rate of a night is a single array read.
+ * Additional guest fees are split into the adult fee and the child fee buckets, kept in their
+ * configured evaluation order.
+ *
+ * A DYNAMIC rate table has no nightly rate: its base rate is interpolated between the low and the
+ * max rate from the occupancy of the night, and day-specific rates still apply as a floor.
+ */
+@Getter
+public final class CompiledRateSource {
+
+    private static final int DAYS_IN_WEEK = DayOfWeek.values().length;
+    // Day-specific floor of a DYNAMIC table on a day without day-specific rate
+    private static final long NO_FLOOR = Long.MIN_VALUE;
+
+    private final String id;
+    private final PricingSourceType sourceType;
+    private final long nightly;
+    @Getter(AccessLevel.NONE)
+    private final long[] baseNightlyByDay;
+    private final boolean dynamic;
+    private final long lowRate;
+    private final long maxRate;
+    private final int lowestOccupancy;
+    private final int maxOccupancy;
+    private final CompiledGuestFee adultFee;
+    private final List<CompiledGuestFee> childFees;
+    private final Integer minStay;
+    private final Integer maxStay;
+
+    private CompiledRateSource(String id, PricingSourceType sourceType, BigDecimal nightly,
+                               List<DaySpecificRateModel> daySpecificRates,
+                               List<AdditionalGuestFeeModel> additionalGuestFees,
+                               Integer minStay, Integer maxStay, RateTableModel dynamicRateTable) {
+        this.id = id;
+        this.sourceType = sourceType;
+        this.nightly = MoneyMath.toMinorUnits(nightly);
+        this.dynamic = dynamicRateTable != null;
+        this.baseNightlyByDay = compileBaseNightlyRates(dynamic ? NO_FLOOR : this.nightly, daySpecificRates);
+        this.lowRate = dynamic ? MoneyMath.toMinorUnits(dynamicRateTable.getLowRate()) : 0;
+        this.maxRate = dynamic ? MoneyMath.toMinorUnits(dynamicRateTable.getMaxRate()) : 0;
+        this.lowestOccupancy = dynamic && dynamicRateTable.getLowestOccupancy() != null ? dynamicRateTable.getLowestOccupancy() : 0;
+        this.maxOccupancy = dynamic && dynamicRateTable.getMaxOccupancy() != null ? dynamicRateTable.getMaxOccupancy() : 0;
+        this.adultFee = compileAdultFee(additionalGuestFees);
+        this.childFees = compileChildFees(additionalGuestFees);
+        this.minStay = minStay;
+        this.maxStay = maxStay;
+    }
+
+    /**
+     * Compiles a default rate (its collections must be initialized).
+     */
+    public static CompiledRateSource of(DefaultRateModel defaultRate) {
+        return new CompiledRateSource(defaultRate.getId(), PricingSourceType.DEFAULT_RATE, defaultRate.getNightly(),
+                defaultRate.getDaySpecificRates(), defaultRate.getAdditionalGuestFees(),
+                defaultRate.getMinStay(), defaultRate.getMaxStay(), null);
+    }
+
+    /**
+     * Compiles a rate table (its collections must be initialized).
+     */
+    public static CompiledRateSource of(RateTableModel rateTable) {
+        return new CompiledRateSource(rateTable.getId(), PricingSourceType.RATE_PLAN, rateTable.getNightly(),
+                rateTable.getDaySpecificRates(), rateTable.getAdditionalGuestFees(),
+                rateTable.getMinStay(), rateTable.getMaxStay(),
+                RateTableTypeEnum.DYNAMIC.equals(rateTable.getType()) ? rateTable : null);
+    }
+
+    /**
+     * Returns the base nightly rate of the given day: max(nightly, day-specific rate of the day).
+     * A DYNAMIC table is priced at its lowest occupancy.
+     */
+    public long getBaseNightly(DayOfWeek day) {
+        return getBaseNightly(day, 0);
+    }
+
+    /**
+     * Returns the base nightly rate of the given day at the given occupancy; the occupancy only
+     * matters for a DYNAMIC table, priced max(interpolated rate, day-specific rate of the day).
+     */
+    public long getBaseNightly(DayOfWeek day, int occupancy) {
+        return getBaseNightly(day.ordinal(), occupancy);
+    }
+
+    /**
+     * Returns the base nightly rate of the given night (epoch day) at the given occupancy.
+     */
+    public long getBaseNightlyOn(long epochDay, int occupancy) {
+        return getBaseNightly(EpochDays.dayOfWeek(epochDay), occupancy);
+    }
+
+    private long getBaseNightly(int dayOfWeek, int occupancy) {
+        long baseNightly = baseNightlyByDay[dayOfWeek];
+        return dynamic ? Math.max(baseNightly, interpolateNightly(occupancy)) : baseNightly;
+    }
+
+    /**
+     * Returns true if at least one additional guest fee can apply.
+     */
+    public boolean hasAdditionalGuestFees() {
+        return adultFee != null || !childFees.isEmpty();
+    }
+
+    /**
+     * Low rate at or below the lowest occupancy, max rate at or above the max occupancy, linear in
+     * between (rounded half up to the cent).
+     */
+    private long interpolateNightly(int occupancy) {
+        if (occupancy <= lowestOccupancy) {
+            return lowRate;
+        }
+        if (occupancy >= maxOccupancy) {
+            return maxRate;
+        }
+        return lowRate + MoneyMath.divideHalfUp(
+                Math.multiplyExact(maxRate - lowRate, (long) (occupancy - lowestOccupancy)),
+                maxOccupancy - lowestOccupancy);
+    }
+
+    /**
+     * First day-specific rate (in configured order) containing a day wins for that day, and only
+     * applies if higher than the nightly rate.
+     */
+    private static long[] compileBaseNightlyRates(long nightly, List<DaySpecificRateModel> daySpecificRates) {
+        long[] byDay = new long[DAYS_IN_WEEK];
+        boolean[] daySpecificRateFound = new boolean[DAYS_IN_WEEK];
+        Arrays.fill(byDay, nightly);
+        if (daySpecificRates == null) {
+            return byDay;
+        }
+        for (DaySpecificRateModel daySpecificRate : daySpecificRates) {
+            if (daySpecificRate.getDays() == null || daySpecificRate.getNightly() == null) {
+                continue;
+            }
+            long daySpecificNightly = MoneyMath.toMinorUnits(daySpecificRate.getNightly());
+            for (DayOfWeek day : daySpecificRate.getDays()) {
+                if (!daySpecificRateFound[day.ordinal()]) {
+                    daySpecificRateFound[day.ordinal()] = true;
+                    byDay[day.ordinal()] = Math.max(nightly, daySpecificNightly);
+                }
+            }
+        }
+        return byDay;
+    }
+
+    private static CompiledGuestFee compileAdultFee(List<AdditionalGuestFeeModel> additionalGuestFees) {
+        if (additionalGuestFees == null) {
+            return null;
+        }
+        for (AdditionalGuestFeeModel fee : additionalGuestFees) {
+            if (GuestTypeEnum.ADULT.equals(fee.getGuestType())) {
+                return CompiledGuestFee.adult(fee);
+            }
+        }
+        return null;
+    }
+
+    private static List<CompiledGuestFee> compileChildFees(List<AdditionalGuestFeeModel> additionalGuestFees) {
+        if (additionalGuestFees == null) {
+            return Collections.emptyList();
+        }
+        List<CompiledGuestFee> childFees = new ArrayList<>();
+        for (AdditionalGuestFeeModel fee : additionalGuestFees) {
+            if (GuestTypeEnum.CHILD.equals(fee.getGuestType()) && fee.getAgeBucket() != null
+                    && fee.getAgeBucket().getFromAge() != null && fee.getAgeBucket().getToAge() != null) {
+                childFees.add(CompiledGuestFee.child(fee));
+            }
+        }
+        return Collections.unmodifiableList(childFees);
+    }
+}
@@ -0,0 +1,83 @@
+package com.smsmode.pricing.engine;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Dates as epoch days (days since 1970-01-01), so the engine iterates the nights of a stay with a
+ * primitive counter instead of allocating a LocalDate per night.
+ *
+ * Dates are exchanged in the "dd-MM-yyyy" format; {@link #format(long, char[])} renders an epoch day
+ * into a caller buffer without going through LocalDate or a DateTimeFormatter.
+ */
+public final class EpochDays {
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    // Buffer length fitting any formatted date: "dd-MM-" and a signed year of up to 9 digits
+    public static final int MAX_FORMATTED_LENGTH = 16;
+
+    private static final int FORMATTED_LENGTH = 10;
+
+    private static final int DAYS_IN_WEEK = DayOfWeek.values().length;
+    // 1970-01-01 was a Thursday
+    private static final int EPOCH_DAY_OF_WEEK = DayOfWeek.THURSDAY.ordinal();
+    // Days from 0000-03-01 to 1970-01-01 in the proleptic Gregorian calendar
+    private static final long DAYS_0000_TO_1970 = 719_468L;
+    private static final int DAYS_PER_ERA = 146_097;
+
+    private EpochDays() {
+    }
+
+    /**
+     * Returns the day of week of an epoch day as a {@link DayOfWeek#ordinal()} (Monday is 0).
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, (long) DAYS_IN_WEEK);
+    }
+
+    /**
+     * Writes the epoch day as "dd-MM-yyyy" at the start of the buffer (of at least
+     * {@link #MAX_FORMATTED_LENGTH} chars) and returns the number of chars written.
+     * Years outside 1-9999 are delegated to {@link #DATE_FORMATTER}.
+     */
+    public static int format(long epochDay, char[] buffer) {
+        // Civil date from days, counting years from March so the leap day is the last day of the year
+        long shifted = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        int dayOfEra = (int) (shifted - era * DAYS_PER_ERA);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 1 || year > 9999) {
+            String formatted = LocalDate.ofEpochDay(epochDay).format(DATE_FORMATTER);
+            formatted.getChars(0, formatted.length(), buffer, 0);
+            return formatted.length();
+        }
+        int y = (int) year;
+        buffer[0] = (char) ('0' + day / 10);
+        buffer[1] = (char) ('0' + day % 10);
+        buffer[2] = '-';
+        buffer[3] = (char) ('0' + month / 10);
+        buffer[4] = (char) ('0' + month % 10);
+        buffer[5] = '-';
+        buffer[6] = (char) ('0' + y / 1000);
+        buffer[7] = (char) ('0' + y / 100 % 10);
+        buffer[8] = (char) ('0' + y / 10 % 10);
+        buffer[9] = (char) ('0' + y % 10);
+        return FORMATTED_LENGTH;
+    }
+
+    /**
+     * Returns the epoch day formatted as "dd-MM-yyyy".
+     */
+    public static String format(long epochDay) {
+        char[] buffer = new char[MAX_FORMATTED_LENGTH];
+        return new String(buffer, 0, format(epochDay, buffer));
+    }
+}
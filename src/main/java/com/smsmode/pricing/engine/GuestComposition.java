@@ -0,0 +1,96 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.resource.common.ChildResource;
+import com.smsmode.pricing.resource.common.GuestsResource;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.util.CollectionUtils;
+
+import java.util.List;
+
+/**
+ * Guests of a price calculation request, analysed once per request.
+ *
+ * Guest priority logic: adults > children. The first guest (an adult if any, otherwise a child)
+ * pays the base nightly rate, all others are additional guests.
+ *
+ * Compositions are equal when they have the same adults and the same children by age, however the
+ * children were listed in the request.
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class GuestComposition {
+
+    @EqualsAndHashCode.Include
+    private final int totalAdults;
+    private final int totalChildren;
+    private final int additionalAdults;
+    private final int additionalChildren;
+    // Child quantities by age, indexed by age
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Include
+    private final int[] childrenByAge;
+
+    private GuestComposition(int totalAdults, int totalChildren, int[] childrenByAge) {
+        this.totalAdults = totalAdults;
+        this.totalChildren = totalChildren;
+        this.childrenByAge = childrenByAge;
+        if (totalAdults > 0) {
+            // Adults present: first adult gets base rate, all children are additional
+            this.additionalAdults = totalAdults - 1;
+            this.additionalChildren = totalChildren;
+        } else if (totalChildren > 0) {
+            // Only children: first child gets base rate
+            this.additionalAdults = 0;
+            this.additionalChildren = totalChildren - 1;
+        } else {
+            this.additionalAdults = 0;
+            this.additionalChildren = 0;
+        }
+    }
+
+    /**
+     * Analyses the guests of a request.
+     */
+    public static GuestComposition of(GuestsResource guests) {
+        int totalAdults = guests.getAdults() != null ? guests.getAdults() : 0;
+        List<ChildResource> children = guests.getChildren();
+
+        int totalChildren = 0;
+        int maxAge = -1;
+        if (!CollectionUtils.isEmpty(children)) {
+            for (ChildResource child : children) {
+                totalChildren += child.getQuantity();
+                maxAge = Math.max(maxAge, child.getAge());
+            }
+        }
+
+        int[] childrenByAge = new int[maxAge + 1];
+        if (!CollectionUtils.isEmpty(children)) {
+            for (ChildResource child : children) {
+                childrenByAge[child.getAge()] += child.getQuantity();
+            }
+        }
+
+        return new GuestComposition(totalAdults, totalChildren, childrenByAge);
+    }
+
+    /**
+     * Returns true if the request has at least one guest.
+     */
+    public boolean hasGuests() {
+        return totalAdults > 0 || totalChildren > 0;
+    }
+
+    /**
+     * Counts the children whose age is within the given bounds (inclusive).
+     */
+    public int countChildrenAged(int fromAge, int toAge) {
+        int count = 0;
+        for (int age = Math.max(0, fromAge); age <= toAge && age < childrenByAge.length; age++) {
+            count += childrenByAge[age];
+        }
+        return count;
+    }
+}
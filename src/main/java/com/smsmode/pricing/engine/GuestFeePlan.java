@@ -0,0 +1,121 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.AmountTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * Additional guest fees of a rate source for the guests of a stay, compiled once per stay.
+ *
+ * Adult fees and flat child fees do not depend on the night and are summed into one constant. Percent
+ * child fees are kept as (percent, quantity) terms because each bucket's fee is rounded HALF_UP on the
+ * night's base rate before being multiplied by its quantity; buckets with the same percent share a term.
+ * The fees of a night are then {@code flat + Σ percentOf(base, percent) × quantity}, usually with no
+ * or a single term.
+ */
+@Slf4j
+public final class GuestFeePlan {
+
+    /**
+     * Plan without any additional fee.
+     */
+    public static final GuestFeePlan NONE = new GuestFeePlan(0L, new long[0], new int[0]);
+
+    private final long flatFees;
+    private final long[] percentValues;
+    private final int[] percentQuantities;
+
+    private GuestFeePlan(long flatFees, long[] percentValues, int[] percentQuantities) {
+        this.flatFees = flatFees;
+        this.percentValues = percentValues;
+        this.percentQuantities = percentQuantities;
+    }
+
+    /**
+     * Compiles the additional fees of the given source for the given guests.
+     */
+    public static GuestFeePlan of(CompiledRateSource source, GuestComposition guests) {
+        if (!source.hasAdditionalGuestFees()) {
+            log.debug("No additional guest fees defined");
+            return NONE;
+        }
+        if (!guests.hasGuests()) {
+            log.warn("No guests found in request");
+            return NONE;
+        }
+
+        long flatFees = 0L;
+        long[] percentValues = new long[source.getChildFees().size()];
+        int[] percentQuantities = new int[source.getChildFees().size()];
+        int percentTerms = 0;
+
+        // Adult additional fees (the value is applied as an amount whatever the amount type)
+        CompiledGuestFee adultFee = source.getAdultFee();
+        if (guests.getAdditionalAdults() > 0 && adultFee != null) {
+            int chargeableAdults = Math.max(0, guests.getAdditionalAdults() - (adultFee.getGuestCount() - 1));
+            flatFees = Math.addExact(flatFees, Math.multiplyExact(adultFee.getValue(), (long) chargeableAdults));
+            log.debug("Adult fee: {} additional adults, guestCount={}, chargeable={}",
+                    guests.getAdditionalAdults(), adultFee.getGuestCount(), chargeableAdults);
+        }
+
+        // Child additional fees, distributing additional children over buckets in configured order
+        int processedChildren = 0;
+        for (CompiledGuestFee bucket : source.getChildFees()) {
+            if (guests.getAdditionalChildren() <= 0) {
+                break;
+            }
+            int childrenInBucket = guests.countChildrenAged(bucket.getFromAge(), bucket.getToAge());
+            if (childrenInBucket <= 0) {
+                continue;
+            }
+
+            int additionalChildrenForBucket = Math.min(childrenInBucket, guests.getAdditionalChildren() - processedChildren);
+            if (additionalChildrenForBucket <= 0) {
+                continue;
+            }
+
+            int chargeableChildren = Math.max(0, additionalChildrenForBucket - (bucket.getGuestCount() - 1));
+            if (chargeableChildren > 0) {
+                if (AmountTypeEnum.PERCENT.equals(bucket.getAmountType())) {
+                    int term = indexOf(percentValues, percentTerms, bucket.getValue());
+                    if (term < 0) {
+                        term = percentTerms++;
+                        percentValues[term] = bucket.getValue();
+                    }
+                    percentQuantities[term] += chargeableChildren;
+                } else {
+                    flatFees = Math.addExact(flatFees, Math.multiplyExact(bucket.getValue(), (long) chargeableChildren));
+                }
+                log.debug("Child bucket {}-{}: {} children in bucket, {} additional, {} chargeable",
+                        bucket.getFromAge(), bucket.getToAge(), childrenInBucket, additionalChildrenForBucket, chargeableChildren);
+            }
+
+            processedChildren += additionalChildrenForBucket;
+        }
+
+        return new GuestFeePlan(flatFees,
+                Arrays.copyOf(percentValues, percentTerms), Arrays.copyOf(percentQuantities, percentTerms));
+    }
+
+    /**
+     * Returns the additional guest fees of a night with the given base nightly rate, in minor units.
+     */
+    public long feesFor(long baseNightlyRate) {
+        long fees = flatFees;
+        for (int term = 0; term < percentValues.length; term++) {
+            fees = Math.addExact(fees,
+                    Math.multiplyExact(MoneyMath.percentOf(baseNightlyRate, percentValues[term]), (long) percentQuantities[term]));
+        }
+        return fees;
+    }
+
+    private static int indexOf(long[] values, int size, long value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,60 @@
+package com.smsmode.pricing.engine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on {@code long} minor units (amounts at scale 2, i.e. cents).
+ *
+ * Rates and fee values are stored as numeric(38,2), so they convert to minor units exactly. Rounding
+ * is HALF_UP (half away from zero), bit-exact with {@link RoundingMode#HALF_UP} at scale 2.
+ */
+public final class MoneyMath {
+
+    public static final int SCALE = 2;
+
+    // A percentage (scale 2) of an amount (scale 2) is at scale 4, i.e. 10^4 times the minor units
+    private static final long PERCENT_OF_AMOUNT_DIVISOR = 10_000L;
+
+    private MoneyMath() {
+    }
+
+    /**
+     * Converts an amount with at most 2 decimals to minor units; null is treated as zero.
+     *
+     * @throws ArithmeticException if the amount has more than 2 significant decimals or overflows
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts minor units back to an amount at scale 2.
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Returns {@code amount × percent / 100} rounded HALF_UP to minor units, both arguments in minor units,
+     * same as {@code amount.multiply(percent).divide(100, 2, HALF_UP)}.
+     */
+    public static long percentOf(long amountMinorUnits, long percentMinorUnits) {
+        return divideHalfUp(Math.multiplyExact(amountMinorUnits, percentMinorUnits), PERCENT_OF_AMOUNT_DIVISOR);
+    }
+
+    /**
+     * Divides with HALF_UP rounding (ties away from zero); the divisor must be positive.
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder * 2 >= divisor) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
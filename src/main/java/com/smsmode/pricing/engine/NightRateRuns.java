@@ -0,0 +1,88 @@
+package com.smsmode.pricing.engine;
+
+import java.util.Arrays;
+
+/**
+ * Night rates of a stay, in minor units, accumulated as runs of consecutive nights with the same rate
+ * and the same pricing source (rate table or default rate).
+ *
+ * The engine appends nights in stay order; a night with the same rate and source as the previous one
+ * extends the current run. The stay total is maintained while appending.
+ */
+public final class NightRateRuns {
+
+    private long[] rates;
+    private CompiledRateSource[] sources;
+    private int[] nightCounts;
+    private int runCount;
+    private int nights;
+    private long total;
+
+    public NightRateRuns(int expectedRuns) {
+        int capacity = Math.max(1, expectedRuns);
+        this.rates = new long[capacity];
+        this.sources = new CompiledRateSource[capacity];
+        this.nightCounts = new int[capacity];
+    }
+
+    /**
+     * Appends the rate of the next night of the stay and the source that priced it.
+     */
+    public void add(long rate, CompiledRateSource source) {
+        if (runCount > 0 && rates[runCount - 1] == rate && sources[runCount - 1] == source) {
+            nightCounts[runCount - 1]++;
+        } else {
+            if (runCount == rates.length) {
+                rates = Arrays.copyOf(rates, runCount * 2);
+                sources = Arrays.copyOf(sources, runCount * 2);
+                nightCounts = Arrays.copyOf(nightCounts, runCount * 2);
+            }
+            rates[runCount] = rate;
+            sources[runCount] = source;
+            nightCounts[runCount] = 1;
+            runCount++;
+        }
+        nights++;
+        total = Math.addExact(total, rate);
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns the rate of the given run.
+     */
+    public long getRate(int run) {
+        return rates[run];
+    }
+
+    /**
+     * Returns the source (rate table or default rate) that priced the nights of the given run.
+     */
+    public CompiledRateSource getSource(int run) {
+        return sources[run];
+    }
+
+    /**
+     * Returns the number of nights of the given run.
+     */
+    public int getNightCount(int run) {
+        return nightCounts[run];
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the average nightly rate, rounded HALF_UP to minor units (0 for an empty stay).
+     */
+    public long getAverage() {
+        return nights > 0 ? MoneyMath.divideHalfUp(total, nights) : 0L;
+    }
+}
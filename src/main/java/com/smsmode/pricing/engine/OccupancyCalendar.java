@@ -0,0 +1,70 @@
+package com.smsmode.pricing.engine;
+
+import java.util.Arrays;
+
+/**
+ * Occupancy counters of a rate plan, one counter per night in a compact array starting at the first
+ * night ever booked. The array grows on both ends when bookings fall outside its range.
+ * Reads and updates are local and only hold the calendar's own monitor.
+ */
+public final class OccupancyCalendar {
+
+    private long firstDay;
+    private int[] counters = new int[0];
+
+    /**
+     * Adds the given delta to the counter of each night from the first day (inclusive) to the end
+     * day (exclusive), in epoch days; counters never go below 0.
+     */
+    public synchronized void adjust(long fromDay, long toDayExclusive, int delta) {
+        if (toDayExclusive <= fromDay) {
+            return;
+        }
+        ensureRange(fromDay, toDayExclusive);
+        int from = (int) (fromDay - firstDay);
+        int to = (int) (toDayExclusive - firstDay);
+        for (int index = from; index < to; index++) {
+            counters[index] = Math.max(0, counters[index] + delta);
+        }
+    }
+
+    /**
+     * Copies the counters of the nights starting at the given epoch day into the target array
+     * (nights outside the calendar's range are 0).
+     */
+    public synchronized void copyTo(long fromDay, int[] target) {
+        for (int night = 0; night < target.length; night++) {
+            long index = fromDay + night - firstDay;
+            target[night] = index >= 0 && index < counters.length ? counters[(int) index] : 0;
+        }
+    }
+
+    /**
+     * Drops the counters of the nights before the given epoch day, which are no longer read.
+     */
+    public synchronized void dropBefore(long day) {
+        if (counters.length == 0 || day <= firstDay) {
+            return;
+        }
+        long endDay = firstDay + counters.length;
+        counters = day >= endDay ? new int[0] : Arrays.copyOfRange(counters, (int) (day - firstDay), counters.length);
+        firstDay = day;
+    }
+
+    private void ensureRange(long fromDay, long toDayExclusive) {
+        if (counters.length == 0) {
+            firstDay = fromDay;
+            counters = new int[Math.toIntExact(toDayExclusive - fromDay)];
+            return;
+        }
+        long newFirstDay = Math.min(firstDay, fromDay);
+        long newEndDay = Math.max(firstDay + counters.length, toDayExclusive);
+        if (newFirstDay == firstDay && newEndDay == firstDay + counters.length) {
+            return;
+        }
+        int[] grown = new int[Math.toIntExact(newEndDay - newFirstDay)];
+        System.arraycopy(counters, 0, grown, (int) (firstDay - newFirstDay), counters.length);
+        firstDay = newFirstDay;
+        counters = grown;
+    }
+}
@@ -0,0 +1,21 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.NightRatesModeEnum;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Key of a cached unit pricing: everything a unit pricing depends on besides the unit's pricing
+ * data and occupancy.
+ */
+@Value
+public class QuoteKey {
+
+    String unitId;
+    LocalDate checkinDate;
+    LocalDate checkoutDate;
+    GuestComposition guests;
+    SegmentChain segments;
+    NightRatesModeEnum nightRatesMode;
+}
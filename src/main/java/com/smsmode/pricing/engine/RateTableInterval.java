@@ -0,0 +1,19 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Dates (inclusive) of an existing or proposed rate table, as checked for overlaps.
+ * The ID is null for a rate table not created yet.
+ */
+@Value
+public class RateTableInterval {
+
+    String id;
+    RateTableTypeEnum type;
+    LocalDate startDate;
+    LocalDate endDate;
+}
@@ -0,0 +1,185 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory interval index over the rate tables of a rate plan, answering overlap checks between
+ * rate tables of the same type without a query per check.
+ *
+ * The intervals of each type are sorted by start date, with the running maximum end date, so the
+ * intervals able to overlap a range are found with a binary search and a short backward scan.
+ * Checking n proposed rate tables against each other and against the index is O(n log n) per round,
+ * a new round only following the rejection of a proposal updating an indexed rate table.
+ */
+public final class RateTableIntervalIndex {
+
+    private static final RateTableTypeEnum[] TYPES = RateTableTypeEnum.values();
+
+    private final RateTableInterval[][] intervalsByType;
+    private final long[][] startDaysByType;
+    private final long[][] maxEndDaysByType;
+
+    private RateTableIntervalIndex(RateTableInterval[][] intervalsByType, long[][] startDaysByType,
+                                   long[][] maxEndDaysByType) {
+        this.intervalsByType = intervalsByType;
+        this.startDaysByType = startDaysByType;
+        this.maxEndDaysByType = maxEndDaysByType;
+    }
+
+    /**
+     * Builds the index from the given intervals (in any order).
+     */
+    public static RateTableIntervalIndex of(Collection<RateTableInterval> intervals) {
+        RateTableInterval[][] intervalsByType = new RateTableInterval[TYPES.length][];
+        long[][] startDaysByType = new long[TYPES.length][];
+        long[][] maxEndDaysByType = new long[TYPES.length][];
+
+        for (RateTableTypeEnum type : TYPES) {
+            RateTableInterval[] sorted = intervals.stream()
+                    .filter(interval -> type.equals(interval.getType()))
+                    .sorted(Comparator.comparing(RateTableInterval::getStartDate))
+                    .toArray(RateTableInterval[]::new);
+            long[] startDays = new long[sorted.length];
+            long[] maxEndDays = new long[sorted.length];
+            long maxEndDay = Long.MIN_VALUE;
+            for (int i = 0; i < sorted.length; i++) {
+                startDays[i] = sorted[i].getStartDate().toEpochDay();
+                maxEndDay = Math.max(maxEndDay, sorted[i].getEndDate().toEpochDay());
+                maxEndDays[i] = maxEndDay;
+            }
+            intervalsByType[type.ordinal()] = sorted;
+            startDaysByType[type.ordinal()] = startDays;
+            maxEndDaysByType[type.ordinal()] = maxEndDays;
+        }
+
+        return new RateTableIntervalIndex(intervalsByType, startDaysByType, maxEndDaysByType);
+    }
+
+    /**
+     * Returns true if an indexed interval of the same type, other than the excluded ID (nullable),
+     * overlaps the given interval.
+     */
+    public boolean overlaps(RateTableInterval interval, String excludeId) {
+        return overlaps(interval, excludeId != null ? Set.of(excludeId) : Set.of());
+    }
+
+    /**
+     * Returns the proposed intervals overlapping an indexed interval of the same type or another
+     * proposed interval, in proposal order. Indexed intervals with the ID of an accepted proposal are
+     * replaced by it, so they are only checked through their proposal; a rejected proposal keeps its
+     * indexed interval, so the remaining proposals are checked again until no more is rejected.
+     */
+    public List<RateTableInterval> findOverlapping(List<RateTableInterval> proposed) {
+        boolean[] rejected = new boolean[proposed.size()];
+
+        boolean rejectedMore = true;
+        while (rejectedMore) {
+            // Step 1: Indexed intervals replaced by the proposals still accepted
+            Set<String> replacedIds = new HashSet<>();
+            for (int i = 0; i < proposed.size(); i++) {
+                if (!rejected[i] && proposed.get(i).getId() != null) {
+                    replacedIds.add(proposed.get(i).getId());
+                }
+            }
+
+            // Step 2: Each accepted proposal against the indexed intervals not replaced, then against
+            // the other accepted proposals
+            boolean[] overlapping = new boolean[proposed.size()];
+            for (int i = 0; i < proposed.size(); i++) {
+                overlapping[i] = !rejected[i] && overlaps(proposed.get(i), replacedIds);
+            }
+            markOverlappingEachOther(proposed, rejected, overlapping);
+
+            // Step 3: Reject the overlapping proposals, restoring the indexed intervals they replaced
+            rejectedMore = false;
+            for (int i = 0; i < overlapping.length; i++) {
+                if (overlapping[i]) {
+                    rejected[i] = true;
+                    rejectedMore |= proposed.get(i).getId() != null;
+                }
+            }
+        }
+
+        List<RateTableInterval> overlappingIntervals = new ArrayList<>();
+        for (int i = 0; i < rejected.length; i++) {
+            if (rejected[i]) {
+                overlappingIntervals.add(proposed.get(i));
+            }
+        }
+        return overlappingIntervals;
+    }
+
+    /**
+     * Marks the accepted proposals overlapping each other, sweeping them by type then start date.
+     */
+    private static void markOverlappingEachOther(List<RateTableInterval> proposed, boolean[] rejected,
+                                                 boolean[] overlapping) {
+        List<Integer> order = new ArrayList<>(proposed.size());
+        for (int i = 0; i < proposed.size(); i++) {
+            if (!rejected[i]) {
+                order.add(i);
+            }
+        }
+        order.sort(Comparator
+                .comparing((Integer i) -> proposed.get(i).getType())
+                .thenComparing(i -> proposed.get(i).getStartDate()));
+
+        // Any proposal overlapping an earlier one overlaps the earlier one reaching furthest
+        int furthest = -1;
+        for (int current : order) {
+            RateTableInterval interval = proposed.get(current);
+            RateTableInterval furthestInterval = furthest >= 0 ? proposed.get(furthest) : null;
+            if (furthestInterval == null || furthestInterval.getType() != interval.getType()) {
+                furthest = current;
+                continue;
+            }
+            if (!interval.getStartDate().isAfter(furthestInterval.getEndDate())) {
+                overlapping[current] = true;
+                overlapping[furthest] = true;
+            }
+            if (interval.getEndDate().isAfter(furthestInterval.getEndDate())) {
+                furthest = current;
+            }
+        }
+    }
+
+    private boolean overlaps(RateTableInterval interval, Set<String> excludedIds) {
+        int type = interval.getType().ordinal();
+        RateTableInterval[] intervals = intervalsByType[type];
+        long[] maxEndDays = maxEndDaysByType[type];
+        long startDay = interval.getStartDate().toEpochDay();
+
+        // Intervals starting after the end cannot overlap; earlier ones are scanned backwards
+        // while one of them may still reach the start
+        for (int i = lastStartingOnOrBefore(startDaysByType[type], interval.getEndDate().toEpochDay());
+             i >= 0 && maxEndDays[i] >= startDay; i--) {
+            if (intervals[i].getEndDate().toEpochDay() >= startDay && !excludedIds.contains(intervals[i].getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lastStartingOnOrBefore(long[] startDays, long day) {
+        int low = 0;
+        int high = startDays.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= day) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,101 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import com.smsmode.pricing.model.RateTableModel;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory, range-indexed view over the rate tables of a rate plan.
+ *
+ * Rate tables of the same type never overlap (EX_RATE_TABLE_NO_OVERLAP constraint), so the tables
+ * of each type are kept in their own array sorted by start date and the table covering a night is
+ * resolved with a binary search instead of a query. When tables of different types cover the same night, the type
+ * declared first in {@link RateTableTypeEnum} wins (STANDARD before DYNAMIC).
+ */
+public final class RateTableTimeline {
+
+    private static final RateTableTypeEnum[] TYPES = RateTableTypeEnum.values();
+
+    private final RateTableModel[][] tablesByType;
+    private final long[][] startDaysByType;
+    private final long[][] endDaysByType;
+
+    private RateTableTimeline(RateTableModel[][] tablesByType, long[][] startDaysByType, long[][] endDaysByType) {
+        this.tablesByType = tablesByType;
+        this.startDaysByType = startDaysByType;
+        this.endDaysByType = endDaysByType;
+    }
+
+    /**
+     * Builds the timeline from the given rate tables (in any order).
+     */
+    public static RateTableTimeline of(Collection<RateTableModel> rateTables) {
+        RateTableModel[][] tablesByType = new RateTableModel[TYPES.length][];
+        long[][] startDaysByType = new long[TYPES.length][];
+        long[][] endDaysByType = new long[TYPES.length][];
+
+        for (RateTableTypeEnum type : TYPES) {
+            List<RateTableModel> tablesOfType = new ArrayList<>();
+            for (RateTableModel rateTable : rateTables) {
+                RateTableTypeEnum tableType = rateTable.getType() != null ? rateTable.getType() : RateTableTypeEnum.STANDARD;
+                if (tableType == type) {
+                    tablesOfType.add(rateTable);
+                }
+            }
+            tablesOfType.sort(Comparator.comparing(RateTableModel::getStartDate));
+
+            int size = tablesOfType.size();
+            RateTableModel[] tables = tablesOfType.toArray(new RateTableModel[size]);
+            long[] startDays = new long[size];
+            long[] endDays = new long[size];
+            for (int i = 0; i < size; i++) {
+                startDays[i] = tables[i].getStartDate().toEpochDay();
+                endDays[i] = tables[i].getEndDate().toEpochDay();
+            }
+
+            tablesByType[type.ordinal()] = tables;
+            startDaysByType[type.ordinal()] = startDays;
+            endDaysByType[type.ordinal()] = endDays;
+        }
+
+        return new RateTableTimeline(tablesByType, startDaysByType, endDaysByType);
+    }
+
+    /**
+     * Returns the rate table covering the given night (startDate <= date <= endDate), or null if none.
+     */
+    public RateTableModel findCovering(LocalDate date) {
+        long day = date.toEpochDay();
+        for (int type = 0; type < tablesByType.length; type++) {
+            int index = floorIndex(startDaysByType[type], day);
+            if (index >= 0 && endDaysByType[type][index] >= day) {
+                return tablesByType[type][index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Index of the last start day lower than or equal to the given day, or -1.
+     */
+    private static int floorIndex(long[] startDays, long day) {
+        int low = 0;
+        int high = startDays.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= day) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.smsmode.pricing.engine;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Segments a quote is priced for, most specific first: the sub-segment, then its segment.
+ * The rate plan of the first segment having one applies, otherwise the default rate.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class SegmentChain {
+
+    private static final SegmentChain NONE = new SegmentChain(List.of());
+
+    private final List<String> segmentIds;
+
+    private SegmentChain(List<String> segmentIds) {
+        this.segmentIds = segmentIds;
+    }
+
+    /**
+     * Creates the chain of a request; blank IDs are ignored.
+     *
+     * @param subSegmentId The sub-segment ID (nullable)
+     * @param segmentId    The segment ID (nullable)
+     */
+    public static SegmentChain of(String subSegmentId, String segmentId) {
+        List<String> segmentIds = new ArrayList<>(2);
+        if (StringUtils.hasText(subSegmentId)) {
+            segmentIds.add(subSegmentId);
+        }
+        if (StringUtils.hasText(segmentId) && !segmentId.equals(subSegmentId)) {
+            segmentIds.add(segmentId);
+        }
+        return segmentIds.isEmpty() ? NONE : new SegmentChain(List.copyOf(segmentIds));
+    }
+
+    /**
+     * Returns true if no segment was requested, i.e. only the default rate applies.
+     */
+    public boolean isEmpty() {
+        return segmentIds.isEmpty();
+    }
+}
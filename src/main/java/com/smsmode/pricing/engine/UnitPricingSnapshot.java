@@ -0,0 +1,95 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.model.DefaultRateModel;
+import com.smsmode.pricing.model.RatePlanModel;
+import com.smsmode.pricing.model.RateTableModel;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, detached pricing configuration of a unit: its default rate and its enabled rate plans
+ * with their rate tables. The pricing engine reads snapshots instead of JPA entities.
+ *
+ * The enabled rate plans are also indexed by segment, so resolving the rate plan of a segment chain
+ * is a lookup per segment. As the snapshot is reloaded from the database when it expires or the
+ * unit's pricing data changes, every instance resolves the rate plans saved through the others.
+ */
+@Getter
+public final class UnitPricingSnapshot {
+
+    private static final Comparator<RatePlanModel> MODIFICATION_ORDER = Comparator
+            .comparing(RatePlanModel::getModifiedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RatePlanModel::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final String unitId;
+    private final CompiledRateSource defaultRate;
+    private final List<CompiledRatePlan> ratePlans;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CompiledRatePlan> ratePlansById;
+    // Enabled rate plan of each segment; when rate plans share a segment, the last modified one wins
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CompiledRatePlan> ratePlansBySegmentId;
+
+    private UnitPricingSnapshot(String unitId, CompiledRateSource defaultRate, List<CompiledRatePlan> ratePlans) {
+        this.unitId = unitId;
+        this.defaultRate = defaultRate;
+        this.ratePlans = ratePlans;
+        this.ratePlansById = new HashMap<>();
+        this.ratePlansBySegmentId = new HashMap<>();
+        for (CompiledRatePlan ratePlan : ratePlans) {
+            ratePlansById.put(ratePlan.getId(), ratePlan);
+            for (String segmentId : ratePlan.getSegmentIds()) {
+                ratePlansBySegmentId.put(segmentId, ratePlan);
+            }
+        }
+    }
+
+    /**
+     * Compiles the snapshot of a unit.
+     *
+     * @param unitId                 The unit ID
+     * @param defaultRate            The unit's default rate (nullable)
+     * @param enabledRatePlans       The unit's enabled rate plans
+     * @param rateTablesByRatePlanId Rate tables of those rate plans, by rate plan ID
+     */
+    public static UnitPricingSnapshot of(String unitId, DefaultRateModel defaultRate,
+                                         Collection<RatePlanModel> enabledRatePlans,
+                                         Map<String, List<RateTableModel>> rateTablesByRatePlanId) {
+        List<CompiledRatePlan> ratePlans = new ArrayList<>();
+        for (RatePlanModel ratePlan : enabledRatePlans.stream().sorted(MODIFICATION_ORDER).toList()) {
+            ratePlans.add(CompiledRatePlan.of(ratePlan, rateTablesByRatePlanId.getOrDefault(ratePlan.getId(), List.of())));
+        }
+        return new UnitPricingSnapshot(unitId,
+                defaultRate != null ? CompiledRateSource.of(defaultRate) : null,
+                Collections.unmodifiableList(ratePlans));
+    }
+
+    /**
+     * Returns the compiled enabled rate plan of the unit with the given ID (nullable), or null if none.
+     */
+    public CompiledRatePlan getRatePlan(String ratePlanId) {
+        return ratePlanId != null ? ratePlansById.get(ratePlanId) : null;
+    }
+
+    /**
+     * Returns the enabled rate plan of the unit containing the first segment of the chain having one
+     * (sub-segment, then segment), or null if none.
+     */
+    public CompiledRatePlan findEnabledRatePlan(SegmentChain segments) {
+        for (String segmentId : segments.getSegmentIds()) {
+            CompiledRatePlan ratePlan = ratePlansBySegmentId.get(segmentId);
+            if (ratePlan != null) {
+                return ratePlan;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.smsmode.pricing.enumeration;
+
+/**
+ * Enumeration for the types of booking events consumed to keep occupancy current.
+ */
+public enum BookingEventTypeEnum {
+
+    /**
+     * The booking occupies its nights
+     */
+    BOOKED,
+
+    /**
+     * The booking releases its nights
+     */
+    CANCELLED
+}
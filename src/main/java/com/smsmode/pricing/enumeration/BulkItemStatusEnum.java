@@ -0,0 +1,22 @@
+package com.smsmode.pricing.enumeration;
+
+/**
+ * Enumeration for the outcome of an item of a bulk request.
+ */
+public enum BulkItemStatusEnum {
+
+    /**
+     * The item was created
+     */
+    CREATED,
+
+    /**
+     * The existing item was updated
+     */
+    UPDATED,
+
+    /**
+     * The item was not persisted, see the result message
+     */
+    REJECTED
+}
@@ -0,0 +1,17 @@
+package com.smsmode.pricing.enumeration;
+
+/**
+ * Enumeration for the representation of night rates in price calculation responses.
+ */
+public enum NightRatesModeEnum {
+
+    /**
+     * One night rate per night of the stay (default)
+     */
+    NIGHTS,
+
+    /**
+     * Runs of consecutive nights with the same rate
+     */
+    RUNS
+}
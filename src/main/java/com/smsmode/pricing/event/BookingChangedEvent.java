@@ -0,0 +1,20 @@
+package com.smsmode.pricing.event;
+
+import com.smsmode.pricing.enumeration.BookingEventTypeEnum;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Consumed from the booking-changed destination when a booking is made or cancelled.
+ * Each booking counts for one on the occupancy of its rate plan for each night of the stay.
+ */
+@Data
+public class BookingChangedEvent {
+
+    private String bookingId;
+    private BookingEventTypeEnum type;
+    private String ratePlanId;
+    private LocalDate checkinDate;
+    private LocalDate checkoutDate;
+}
@@ -0,0 +1,31 @@
+package com.smsmode.pricing.event;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published when the pricing configuration (default rate, rate plans or rate tables) of units changes.
+ * Pricing snapshots of these units are invalidated once the publishing transaction commits.
+ */
+@Getter
+public class PricingDataChangedEvent {
+
+    private final Set<String> unitIds;
+
+    private PricingDataChangedEvent(Set<String> unitIds) {
+        this.unitIds = unitIds;
+    }
+
+    /**
+     * Creates an event for the given unit IDs (null IDs are ignored).
+     */
+    public static PricingDataChangedEvent ofUnits(String... unitIds) {
+        return new PricingDataChangedEvent(Arrays.stream(unitIds)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
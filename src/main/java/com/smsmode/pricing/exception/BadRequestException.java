@@ -0,0 +1,26 @@
+/**
+ * Copyright (C) Calade Technologies, Inc - All Rights Reserved Unauthorized copying of this file,
+ * via any medium is strictly prohibited Proprietary and confidential
+ */
+package com.smsmode.pricing.exception;
+
+import com.smsmode.pricing.exception.enumeration.BadRequestExceptionTitleEnum;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a request is well-formed but its values cannot be processed. Extends
+ * {@link AbstractBaseException} and is answered with a 400 status.
+ */
+public class BadRequestException extends AbstractBaseException {
+    /**
+     * Constructs an instance of {@code BadRequestException} with the specified title and message.
+     *
+     * @param title   The title or type of the exception, represented by a {@link
+     *                BadRequestExceptionTitleEnum}.
+     * @param message The detail message (which is saved for later retrieval by the {@link
+     *                #getMessage()} method).
+     */
+    public BadRequestException(BadRequestExceptionTitleEnum title, String message) {
+        super(title, HttpStatus.BAD_REQUEST, message);
+    }
+}
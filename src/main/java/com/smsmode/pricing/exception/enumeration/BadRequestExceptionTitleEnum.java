@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) Calade Technologies, Inc - All Rights Reserved Unauthorized copying of this file,
+ * via any medium is strictly prohibited Proprietary and confidential
+ */
+package com.smsmode.pricing.exception.enumeration;
+
+/**
+ * Enum representing titles for bad request exceptions. Each enum constant should provide a unique
+ * code for identifying the exception type.
+ */
+public enum BadRequestExceptionTitleEnum implements BaseExceptionEnum {
+    INVALID_DATE("PRC_BAD_REQ_ERR_1"),
+    PRICE_CALENDAR_WINDOW_TOO_LONG("PRC_BAD_REQ_ERR_2");
+
+    private final String code;
+
+    /**
+     * Constructs a BadRequestExceptionTitleEnum with the specified code.
+     *
+     * @param code A string code identifying the exception type.
+     */
+    BadRequestExceptionTitleEnum(String code) {
+        this.code = code;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return A string code identifying the exception type.
+     */
+    @Override
+    public String getCode() {
+        return code;
+    }
+}
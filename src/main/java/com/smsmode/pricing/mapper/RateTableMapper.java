@@ -7,6 +7,7 @@ import com.smsmode.pricing.resource.common.additionalguestfee.AdditionalGuestFee
 import com.smsmode.pricing.resource.common.additionalguestfee.AdditionalGuestFeePostResource;
 import com.smsmode.pricing.resource.common.dayspecificrate.DaySpecificRateGetResource;
 import com.smsmode.pricing.resource.common.dayspecificrate.DaySpecificRatePostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkItemResource;
 import com.smsmode.pricing.resource.ratetable.RateTableGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePatchResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePostResource;
@@ -62,6 +63,36 @@ import java.util.List;
         }
     }
 
+    /**
+     * Maps a bulk item to a new RateTableModel; the rate plan and the collections are set by the caller.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "ratePlan", ignore = true)
+    @Mapping(target = "additionalGuestFees", ignore = true)
+    @Mapping(target = "daySpecificRates", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "modifiedAt", ignore = true)
+    @Mapping(target = "modifiedBy", ignore = true)
+    public abstract RateTableModel bulkItemResourceToModel(RateTableBulkItemResource rateTableBulkItemResource);
+
+    /**
+     * Replaces the fields of an existing RateTableModel with a bulk item (absent fields are cleared);
+     * the collections are replaced by the caller.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "ratePlan", ignore = true)
+    @Mapping(target = "additionalGuestFees", ignore = true)
+    @Mapping(target = "daySpecificRates", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "modifiedAt", ignore = true)
+    @Mapping(target = "modifiedBy", ignore = true)
+    public abstract void updateModelFromBulkItemResource(RateTableBulkItemResource rateTableBulkItemResource, @MappingTarget RateTableModel rateTableModel);
+
     public abstract AdditionalGuestFeeGetResource additionalGuestFeeModelToGetResource(AdditionalGuestFeeModel additionalGuestFeeModel);
     public abstract AdditionalGuestFeeModel additionalGuestFeePostResourceToModel(AdditionalGuestFeePostResource additionalGuestFeePostResource);
     public abstract DaySpecificRateGetResource daySpecificRateModelToGetResource(DaySpecificRateModel daySpecificRateModel);
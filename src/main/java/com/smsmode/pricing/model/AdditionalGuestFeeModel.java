@@ -9,6 +9,8 @@ import com.smsmode.pricing.enumeration.AmountTypeEnum;
 import com.smsmode.pricing.enumeration.GuestTypeEnum;
 import com.smsmode.pricing.model.base.AbstractBaseModel;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -24,6 +26,8 @@ import java.math.BigDecimal;
 @Setter
 @Entity
 @Table(name = "ADDITIONAL_GUEST_FEE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AdditionalGuestFeeModel extends AbstractBaseModel {
     private int guestCount;
     @Enumerated(EnumType.STRING)
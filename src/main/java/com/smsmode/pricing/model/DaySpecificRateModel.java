@@ -7,6 +7,8 @@ package com.smsmode.pricing.model;
 import com.smsmode.pricing.converter.DayOfWeekSetConverter;
 import com.smsmode.pricing.model.base.AbstractBaseModel;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -24,6 +26,8 @@ import java.util.Set;
 @Setter
 @Table(name = "DAY_SPECIFIC_RATE")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class DaySpecificRateModel extends AbstractBaseModel {
     private BigDecimal nightly;
     @Convert(converter = DayOfWeekSetConverter.class)
@@ -7,6 +7,8 @@ package com.smsmode.pricing.model;
 import com.smsmode.pricing.embeddable.UnitRefEmbeddable;
 import com.smsmode.pricing.model.base.AbstractBaseModel;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -24,8 +26,23 @@ import java.util.List;
 @Setter
 @Entity
 @Table(name = "DEFAULT_RATE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraph(name = DefaultRateModel.GRAPH_ADDITIONAL_GUEST_FEES,
+        attributeNodes = @NamedAttributeNode("additionalGuestFees"))
+@NamedEntityGraph(name = DefaultRateModel.GRAPH_DAY_SPECIFIC_RATES,
+        attributeNodes = @NamedAttributeNode("daySpecificRates"))
 public class DefaultRateModel extends AbstractBaseModel {
 
+    // Fetch graphs of pricing reads; both collections are bags, so each is fetched by its own query
+    public static final String GRAPH_ADDITIONAL_GUEST_FEES = "DefaultRate.additionalGuestFees";
+    public static final String GRAPH_DAY_SPECIFIC_RATES = "DefaultRate.daySpecificRates";
+
+    // Optimistic lock: a write based on a stale (e.g. cached by another instance) state fails
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private BigDecimal nightly;
 
@@ -39,9 +56,11 @@ public class DefaultRateModel extends AbstractBaseModel {
 
     @OneToMany(mappedBy = "rate", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<AdditionalGuestFeeModel> additionalGuestFees = new ArrayList<>();
 
     @OneToMany(mappedBy = "rate", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<DaySpecificRateModel> daySpecificRates = new ArrayList<>();
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.smsmode.pricing.embeddable.SegmentRefEmbeddable;
 import com.smsmode.pricing.embeddable.UnitRefEmbeddable;
 import com.smsmode.pricing.model.base.AbstractBaseModel;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -19,12 +21,20 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "RATE_PLAN")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class RatePlanModel extends AbstractBaseModel {
 
+    // Optimistic lock: a write based on a stale (e.g. cached by another instance) state fails
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
     @Column(name = "NAME", nullable = false)
     private String name;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<SegmentRefEmbeddable> segments = new HashSet<>();
 
     @Column(name = "ENABLED", nullable = false)
@@ -33,6 +43,7 @@ public class RatePlanModel extends AbstractBaseModel {
     @Embedded
     private UnitRefEmbeddable unit;
 
+    // Not cached: rate tables are saved and deleted on their own, without updating this inverse side
     @OneToMany(mappedBy = "ratePlan", fetch = FetchType.LAZY)
     private List<RateTableModel> rateTables = new ArrayList<>();
 }
\ No newline at end of file
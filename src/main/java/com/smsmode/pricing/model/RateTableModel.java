@@ -3,6 +3,8 @@ package com.smsmode.pricing.model;
 import com.smsmode.pricing.enumeration.RateTableTypeEnum;
 import com.smsmode.pricing.model.base.AbstractBaseModel;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,11 +20,28 @@ import java.util.List;
 @Setter
 @Entity
 @Table(name = "RATE_TABLE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraph(name = RateTableModel.GRAPH_ADDITIONAL_GUEST_FEES,
+        attributeNodes = @NamedAttributeNode("additionalGuestFees"))
+@NamedEntityGraph(name = RateTableModel.GRAPH_DAY_SPECIFIC_RATES,
+        attributeNodes = @NamedAttributeNode("daySpecificRates"))
 public class RateTableModel extends AbstractBaseModel {
 
+    // Fetch graphs of pricing reads; both collections are bags, so each is fetched by its own query
+    public static final String GRAPH_ADDITIONAL_GUEST_FEES = "RateTable.additionalGuestFees";
+    public static final String GRAPH_DAY_SPECIFIC_RATES = "RateTable.daySpecificRates";
+
+    // Optimistic lock: a write based on a stale (e.g. cached by another instance) state fails
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
     @Column(name = "NAME", nullable = false)
     private String name;
 
+    // START_DATE..END_DATE (inclusive) is also stored as the generated DATES range checked by the
+    // EX_RATE_TABLE_NO_OVERLAP exclusion constraint (V3 migration, checked at commit since V4)
     @Column(name = "START_DATE", nullable = false)
     private LocalDate startDate;
 
@@ -63,9 +82,11 @@ public class RateTableModel extends AbstractBaseModel {
 
     @OneToMany(mappedBy = "rateTable", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<AdditionalGuestFeeModel> additionalGuestFees = new ArrayList<>();
 
     @OneToMany(mappedBy = "rateTable", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<DaySpecificRateModel> daySpecificRates = new ArrayList<>();
 }
\ No newline at end of file
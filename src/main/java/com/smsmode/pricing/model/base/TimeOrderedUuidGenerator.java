@@ -0,0 +1,66 @@
+package com.smsmode.pricing.model.base;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Generates version 7 UUIDs (RFC 9562): a 48-bit Unix timestamp in milliseconds followed by a
+ * 12-bit sequence and 62 random bits.
+ *
+ * IDs generated by an instance increase monotonically, so rows are appended at the right edge of
+ * the primary key and foreign key B-tree indexes instead of being scattered across them. The
+ * sequence orders IDs generated in the same millisecond; when it wraps, the timestamp is advanced.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static long lastMillis;
+    private static int sequence;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next().toString();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+
+    /**
+     * Returns the next time-ordered UUID.
+     */
+    public static UUID next() {
+        long millis;
+        int currentSequence;
+        synchronized (TimeOrderedUuidGenerator.class) {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                if (sequence == MAX_SEQUENCE) {
+                    millis++;
+                    sequence = 0;
+                } else {
+                    sequence++;
+                }
+            } else {
+                // Start below the middle of the range, leaving room for a burst in the same millisecond
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            }
+            lastMillis = millis;
+            currentSequence = sequence;
+        }
+
+        long mostSigBits = (millis << 16) | (0x7L << 12) | currentSequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
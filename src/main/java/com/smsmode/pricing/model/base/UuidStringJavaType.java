@@ -0,0 +1,42 @@
+package com.smsmode.pricing.model.base;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import java.util.UUID;
+
+/**
+ * String identifiers bound to and read from a native uuid column.
+ *
+ * A malformed identifier (e.g. a mistyped path variable) is bound as the nil UUID, which is never
+ * generated, so looking it up finds nothing instead of failing the query.
+ */
+public class UuidStringJavaType extends StringJavaType {
+
+    private static final UUID NIL = new UUID(0, 0);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value != null && UUID.class.isAssignableFrom(type)) {
+            return (X) toUuid(value);
+        }
+        return super.unwrap(value, type, options);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return super.wrap(value, options);
+    }
+
+    private static UUID toUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return NIL;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.smsmode.pricing.resource.common;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.smsmode.pricing.enumeration.PricingSourceType;
 import lombok.Data;
 
 import java.math.BigDecimal;
 
 @Data
+@JsonSerialize(using = NightRateGetResourceSerializer.class)
 public class NightRateGetResource {
-    private String date;
+    private long date; // epoch day of the night, rendered "dd-MM-yyyy"
     private BigDecimal rate;
+    private PricingSourceType source; // RATE_PLAN (rate table) or DEFAULT_RATE
+    private String sourceId; // rate table or default rate ID
 }
@@ -0,0 +1,48 @@
+package com.smsmode.pricing.resource.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.smsmode.pricing.engine.EpochDays;
+
+import java.io.IOException;
+
+/**
+ * Serializes a night rate with its epoch day rendered as "dd-MM-yyyy" straight into the output,
+ * so pricing a stay does not build a date string per night. The date is formatted into one buffer
+ * per serialization call, kept as an attribute of the serializer provider.
+ */
+public class NightRateGetResourceSerializer extends StdSerializer<NightRateGetResource> {
+
+    private static final Object DATE_BUFFER_ATTRIBUTE = NightRateGetResourceSerializer.class;
+
+    public NightRateGetResourceSerializer() {
+        super(NightRateGetResource.class);
+    }
+
+    @Override
+    public void serialize(NightRateGetResource nightRate, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] date = (char[]) provider.getAttribute(DATE_BUFFER_ATTRIBUTE);
+        if (date == null) {
+            date = new char[EpochDays.MAX_FORMATTED_LENGTH];
+            provider.setAttribute(DATE_BUFFER_ATTRIBUTE, date);
+        }
+        generator.writeStartObject(nightRate);
+        generator.writeFieldName("date");
+        generator.writeString(date, 0, EpochDays.format(nightRate.getDate(), date));
+        generator.writeFieldName("rate");
+        if (nightRate.getRate() != null) {
+            generator.writeNumber(nightRate.getRate());
+        } else {
+            generator.writeNull();
+        }
+        generator.writeFieldName("source");
+        if (nightRate.getSource() != null) {
+            generator.writeString(nightRate.getSource().name());
+        } else {
+            generator.writeNull();
+        }
+        generator.writeStringField("sourceId", nightRate.getSourceId());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,16 @@
+package com.smsmode.pricing.resource.common;
+
+import com.smsmode.pricing.enumeration.PricingSourceType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class NightRateRunGetResource {
+    private String startDate; // first night of the run
+    private String endDate; // last night of the run (inclusive)
+    private BigDecimal rate;
+    private PricingSourceType source; // RATE_PLAN (rate table) or DEFAULT_RATE
+    private String sourceId; // rate table or default rate ID
+    private Integer nights;
+}
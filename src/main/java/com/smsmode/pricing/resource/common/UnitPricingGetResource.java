@@ -9,6 +9,7 @@ import java.util.List;
 public class UnitPricingGetResource {
     private String id; // unitId
     private List<NightRateGetResource> nightRates;
+    private List<NightRateRunGetResource> nightRateRuns; // only with RUNS night rates mode
     private BigDecimal nightlyRate; // average rate
     private BigDecimal totalAmount;
     private Integer minStay;
@@ -1,5 +1,6 @@
 package com.smsmode.pricing.resource.pricecalculation;
 
+import com.smsmode.pricing.enumeration.NightRatesModeEnum;
 import com.smsmode.pricing.resource.common.GuestsResource;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -26,4 +27,6 @@ public class PriceCalculationPostResource {
 
     @NotEmpty(message = "At least one unit is required")
     private List<String> units;
+
+    private NightRatesModeEnum nightRatesMode; // Optional, NIGHTS by default
 }
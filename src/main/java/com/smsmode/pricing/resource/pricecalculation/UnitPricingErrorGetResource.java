@@ -0,0 +1,16 @@
+package com.smsmode.pricing.resource.pricecalculation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Record of a unit that could not be priced in a streamed price calculation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnitPricingErrorGetResource {
+    private String id; // unitId
+    private String error;
+}
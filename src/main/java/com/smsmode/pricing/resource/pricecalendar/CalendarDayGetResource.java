@@ -0,0 +1,13 @@
+package com.smsmode.pricing.resource.pricecalendar;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class CalendarDayGetResource {
+    private String date; // check-in date
+    private BigDecimal rate; // nightly rate of the night, absent when the unit has no pricing for it
+    private Integer minStay;
+    private Integer maxStay;
+}
@@ -0,0 +1,29 @@
+package com.smsmode.pricing.resource.pricecalendar;
+
+import com.smsmode.pricing.resource.common.GuestsResource;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PriceCalendarPostResource {
+    @NotNull(message = "Start date is required")
+    private String startDate; // Format "DD-MM-YYYY", first check-in date of the calendar
+
+    @NotNull(message = "End date is required")
+    private String endDate; // Format "DD-MM-YYYY", last check-in date of the calendar (inclusive)
+
+    @Valid
+    @NotNull(message = "Guests information is required")
+    private GuestsResource guests;
+
+    private String segmentId; // Optional
+
+    private String subSegmentId; // Optional
+
+    @NotEmpty(message = "At least one unit is required")
+    private List<String> units;
+}
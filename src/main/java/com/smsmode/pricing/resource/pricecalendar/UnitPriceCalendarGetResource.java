@@ -0,0 +1,11 @@
+package com.smsmode.pricing.resource.pricecalendar;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UnitPriceCalendarGetResource {
+    private String id; // unitId
+    private List<CalendarDayGetResource> days;
+}
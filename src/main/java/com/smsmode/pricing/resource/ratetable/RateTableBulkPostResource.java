@@ -0,0 +1,25 @@
+package com.smsmode.pricing.resource.ratetable;
+
+import com.smsmode.pricing.embeddable.RatePlanRefEmbeddable;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Resource for creating and updating many rate tables of a rate plan at once.
+ */
+@Data
+public class RateTableBulkPostResource {
+
+    @NotNull(message = "Rate plan information is required")
+    @Valid
+    private RatePlanRefEmbeddable ratePlan;
+
+    @NotEmpty(message = "At least one rate table is required")
+    @Size(max = 1000, message = "At most 1000 rate tables can be sent at once")
+    private List<@Valid RateTableBulkItemResource> rateTables;
+}
@@ -0,0 +1,16 @@
+package com.smsmode.pricing.resource.ratetable;
+
+import com.smsmode.pricing.enumeration.BulkItemStatusEnum;
+import lombok.Data;
+
+/**
+ * Resource for returning the outcome of one rate table of a bulk upsert, in request order.
+ */
+@Data
+public class RateTableBulkResultGetResource {
+
+    private int index;
+    private String id;
+    private BulkItemStatusEnum status;
+    private String message;
+}
@@ -3,7 +3,6 @@ package com.smsmode.pricing.resource.ratetable;
 import com.smsmode.pricing.embeddable.RatePlanRefEmbeddable;
 import com.smsmode.pricing.enumeration.RateTableTypeEnum;
 import com.smsmode.pricing.resource.common.BaseRateResource;
-import com.smsmode.pricing.validator.ValidRateTableDates;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -17,7 +16,6 @@ import java.time.LocalDate;
  * Resource for creating rate tables.
  */
 @Data
-@ValidRateTableDates
 public class RateTablePostResource extends BaseRateResource {
 
     @NotBlank(message = "Rate table name is required")
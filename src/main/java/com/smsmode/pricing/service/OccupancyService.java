@@ -0,0 +1,34 @@
+package com.smsmode.pricing.service;
+
+import com.smsmode.pricing.event.BookingChangedEvent;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface providing the occupancy used to price DYNAMIC rate tables.
+ * Implementations are pluggable; the pricing engine only reads occupancy through this interface.
+ */
+public interface OccupancyService {
+
+    /**
+     * Returns true once occupancy reflects the existing bookings, i.e. DYNAMIC rate tables can be priced.
+     */
+    boolean isInitialized();
+
+    /**
+     * Returns the occupancy of each given rate plan for each night of a window, in one batch.
+     *
+     * @param ratePlanIds The rate plan IDs
+     * @param startDate   The first night of the window
+     * @param nights      The number of nights of the window
+     * @return One array per requested rate plan, by rate plan ID, holding the occupancy of the night
+     * startDate + i at index i (0 when unknown); empty until occupancy is initialized
+     */
+    Map<String, int[]> getOccupancies(Collection<String> ratePlanIds, LocalDate startDate, int nights);
+
+    /**
+     * Applies a booking or cancellation to the occupancy of the booking's rate plan.
+     */
+    void onBookingChanged(BookingChangedEvent event);
+}
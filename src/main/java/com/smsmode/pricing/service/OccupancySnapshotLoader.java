@@ -0,0 +1,19 @@
+package com.smsmode.pricing.service;
+
+import com.smsmode.pricing.event.BookingChangedEvent;
+
+import java.util.List;
+
+/**
+ * Loads the bookings occupancy starts from, before booking events keep it current.
+ */
+public interface OccupancySnapshotLoader {
+
+    /**
+     * Loads the active bookings (checkout after today).
+     *
+     * @return The active bookings, with their rate plan and stay dates
+     * @throws RuntimeException when the snapshot cannot be loaded; loading is then retried
+     */
+    List<BookingChangedEvent> loadActiveBookings();
+}
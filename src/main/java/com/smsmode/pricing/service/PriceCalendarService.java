@@ -0,0 +1,18 @@
+package com.smsmode.pricing.service;
+
+import com.smsmode.pricing.resource.pricecalendar.PriceCalendarPostResource;
+import com.smsmode.pricing.resource.pricecalendar.UnitPriceCalendarGetResource;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Service interface for Price Calendar business operations.
+ */
+public interface PriceCalendarService {
+
+    /**
+     * Calculates, for each unit, the nightly rate and min/max stay of every check-in date of the window.
+     */
+    ResponseEntity<List<UnitPriceCalendarGetResource>> calculateCalendar(PriceCalendarPostResource request);
+}
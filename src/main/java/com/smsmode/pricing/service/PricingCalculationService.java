@@ -3,6 +3,7 @@ package com.smsmode.pricing.service;
 import com.smsmode.pricing.resource.common.UnitPricingGetResource;
 import com.smsmode.pricing.resource.pricecalculation.PriceCalculationPostResource;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,4 +16,10 @@ public interface PricingCalculationService {
      * Calculates pricing for multiple units based on stay dates, guests, and segment.
      */
     ResponseEntity<List<UnitPricingGetResource>> calculatePricing(PriceCalculationPostResource request);
+
+    /**
+     * Calculates pricing for multiple units, streamed as newline-delimited JSON: one
+     * UnitPricingGetResource or UnitPricingErrorGetResource line per unit, in completion order.
+     */
+    ResponseEntity<StreamingResponseBody> streamPricing(PriceCalculationPostResource request);
 }
\ No newline at end of file
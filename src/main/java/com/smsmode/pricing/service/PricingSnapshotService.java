@@ -0,0 +1,24 @@
+package com.smsmode.pricing.service;
+
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface providing compiled pricing snapshots of units.
+ */
+public interface PricingSnapshotService {
+
+    /**
+     * Returns the pricing snapshots of the given units, by unit ID.
+     * Snapshots missing from the cache are loaded together and compiled.
+     */
+    Map<String, UnitPricingSnapshot> getSnapshots(Collection<String> unitIds);
+
+    /**
+     * Drops the snapshots of the units whose pricing data changed.
+     */
+    void onPricingDataChanged(PricingDataChangedEvent event);
+}
@@ -0,0 +1,27 @@
+package com.smsmode.pricing.service;
+
+import com.smsmode.pricing.engine.QuoteKey;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
+import com.smsmode.pricing.resource.common.UnitPricingGetResource;
+
+/**
+ * Service interface caching computed unit pricings.
+ */
+public interface QuoteCacheService {
+
+    /**
+     * Returns the cached unit pricing of the key if it was computed from the given snapshot, otherwise null.
+     */
+    UnitPricingGetResource get(QuoteKey key, UnitPricingSnapshot snapshot);
+
+    /**
+     * Caches a unit pricing computed from the given snapshot (nullable when the unit has no pricing data).
+     */
+    void put(QuoteKey key, UnitPricingSnapshot snapshot, UnitPricingGetResource unitPricing);
+
+    /**
+     * Drops the cached unit pricings of the units whose pricing data changed.
+     */
+    void onPricingDataChanged(PricingDataChangedEvent event);
+}
@@ -1,5 +1,7 @@
 package com.smsmode.pricing.service;
 
+import com.smsmode.pricing.resource.ratetable.RateTableBulkPostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkResultGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTableGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePatchResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePostResource;
@@ -7,6 +9,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 /**
  * Service interface for RateTable business operations.
  */
@@ -17,6 +21,12 @@ public interface RateTableService {
      */
     ResponseEntity<RateTableGetResource> create(RateTablePostResource rateTablePostResource);
 
+    /**
+     * Creates and updates many rate tables of a rate plan in a single transaction.
+     * Items are validated together in memory; rejected items are reported and not persisted.
+     */
+    ResponseEntity<List<RateTableBulkResultGetResource>> bulkUpsert(RateTableBulkPostResource rateTableBulkPostResource);
+
     /**
      * Retrieves rate tables with filters and pagination.
      */
@@ -5,6 +5,7 @@
 package com.smsmode.pricing.service.impl;
 
 import com.smsmode.pricing.dao.service.DefaultRateDaoService;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
 import com.smsmode.pricing.mapper.DefaultRateMapper;
 import com.smsmode.pricing.model.AdditionalGuestFeeModel;
 import com.smsmode.pricing.model.DaySpecificRateModel;
@@ -16,6 +17,7 @@ import com.smsmode.pricing.resource.defaultrate.DefaultRatePostResource;
 import com.smsmode.pricing.service.DefaultRateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +47,7 @@ public class DefaultRateServiceImpl implements DefaultRateService {
 
     private final DefaultRateMapper defaultRateMapper;
     private final DefaultRateDaoService defaultRateDaoService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public ResponseEntity<DefaultRateGetResource> create(DefaultRatePostResource defaultRatePostResource) {
@@ -69,6 +72,7 @@ public class DefaultRateServiceImpl implements DefaultRateService {
                 defaultRateModel.getUnit().getId(),
                 defaultRateModel.getAdditionalGuestFees().size(),
                 defaultRateModel.getDaySpecificRates().size());
+        applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(defaultRateModel)));
         log.debug("Mapping default rate model to get resource ...");
         DefaultRateGetResource defaultRateGetResource = defaultRateMapper.modelToGetResource(defaultRateModel);
         log.info("Default rate model after mapping is: {}", defaultRateGetResource);
@@ -96,6 +100,7 @@ public class DefaultRateServiceImpl implements DefaultRateService {
         // Find existing default rate
         DefaultRateModel existingDefaultRate = defaultRateDaoService.findById(rateId);
         log.debug("Found existing default rate: {}", existingDefaultRate.getId());
+        String previousUnitId = getUnitId(existingDefaultRate);
 
         defaultRateMapper.updateModelFromPostResource(defaultRatePostResource, existingDefaultRate);
 
@@ -110,12 +115,18 @@ public class DefaultRateServiceImpl implements DefaultRateService {
         // Save updated model
         DefaultRateModel updatedDefaultRate = defaultRateDaoService.save(existingDefaultRate);
         log.info("Successfully updated default rate with ID: {}", rateId);
+        applicationEventPublisher.publishEvent(
+                PricingDataChangedEvent.ofUnits(previousUnitId, getUnitId(updatedDefaultRate)));
 
         // Map to response
         DefaultRateGetResource response = defaultRateMapper.modelToGetResource(updatedDefaultRate);
         return ResponseEntity.ok(response);
     }
 
+    private String getUnitId(DefaultRateModel defaultRateModel) {
+        return defaultRateModel.getUnit() != null ? defaultRateModel.getUnit().getId() : null;
+    }
+
     /**
      * Updates Additional Guest Fees with 3 scenarios:
      * 1. No ID in request -> CREATE new entity
@@ -0,0 +1,45 @@
+package com.smsmode.pricing.service.impl;
+
+import com.smsmode.pricing.config.OccupancyProperties;
+import com.smsmode.pricing.event.BookingChangedEvent;
+import com.smsmode.pricing.service.OccupancySnapshotLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * OccupancySnapshotLoader reading the active bookings from the URL configured in
+ * {@code pricing.occupancy.snapshot-url}. Without a URL there is no snapshot source: occupancy starts
+ * empty and is built from booking events only.
+ */
+@Slf4j
+@Service
+public class HttpOccupancySnapshotLoaderImpl implements OccupancySnapshotLoader {
+
+    private final OccupancyProperties occupancyProperties;
+    private final RestClient restClient;
+
+    public HttpOccupancySnapshotLoaderImpl(OccupancyProperties occupancyProperties, RestClient.Builder restClientBuilder) {
+        this.occupancyProperties = occupancyProperties;
+        this.restClient = restClientBuilder.build();
+    }
+
+    @Override
+    public List<BookingChangedEvent> loadActiveBookings() {
+        if (!StringUtils.hasText(occupancyProperties.getSnapshotUrl())) {
+            log.info("No occupancy snapshot URL configured (pricing.occupancy.snapshot-url), starting from booking events only");
+            return List.of();
+        }
+        log.debug("Loading occupancy snapshot from {}", occupancyProperties.getSnapshotUrl());
+        List<BookingChangedEvent> bookings = restClient.get()
+                .uri(occupancyProperties.getSnapshotUrl())
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {
+                });
+        return bookings != null ? bookings : List.of();
+    }
+}
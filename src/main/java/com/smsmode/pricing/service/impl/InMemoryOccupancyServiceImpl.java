@@ -0,0 +1,182 @@
+package com.smsmode.pricing.service.impl;
+
+import com.smsmode.pricing.config.OccupancyProperties;
+import com.smsmode.pricing.engine.OccupancyCalendar;
+import com.smsmode.pricing.enumeration.BookingEventTypeEnum;
+import com.smsmode.pricing.event.BookingChangedEvent;
+import com.smsmode.pricing.service.OccupancyService;
+import com.smsmode.pricing.service.OccupancySnapshotLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local OccupancyService implementation: occupancy counters of each rate plan are kept in memory in
+ * a compact per-night array, updated incrementally by booking events, so quotes never wait on a
+ * remote call.
+ *
+ * Events are idempotent per booking: a booking is counted once however often it is redelivered, and
+ * a cancellation releases the nights the booking was counted for. Cancelled bookings are remembered
+ * until their checkout, so a booking event delivered after its cancellation is not counted.
+ *
+ * Counters start from a snapshot of the active bookings, retried until it loads; until then no
+ * occupancy is returned. Without a snapshot source they start empty. Bookings and counters of past nights are dropped daily.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InMemoryOccupancyServiceImpl implements OccupancyService {
+
+    private final OccupancySnapshotLoader occupancySnapshotLoader;
+    private final OccupancyProperties occupancyProperties;
+
+    private final Map<String, OccupancyCalendar> calendarsByRatePlanId = new ConcurrentHashMap<>();
+    // Bookings currently counted, by booking ID
+    private final Map<String, BookingChangedEvent> countedBookingsById = new ConcurrentHashMap<>();
+    // Cancelled bookings, by booking ID, with the day after which they are forgotten
+    private final Map<String, LocalDate> cancelledBookingsById = new ConcurrentHashMap<>();
+    private volatile boolean initialized;
+
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    @Override
+    public Map<String, int[]> getOccupancies(Collection<String> ratePlanIds, LocalDate startDate, int nights) {
+        if (!initialized) {
+            log.warn("Occupancy snapshot not loaded yet, no occupancy returned for {} rate plans", ratePlanIds.size());
+            return Collections.emptyMap();
+        }
+        long firstDay = startDate.toEpochDay();
+        Map<String, int[]> occupancies = new HashMap<>();
+        for (String ratePlanId : ratePlanIds) {
+            int[] occupancy = new int[nights];
+            OccupancyCalendar calendar = calendarsByRatePlanId.get(ratePlanId);
+            if (calendar != null) {
+                calendar.copyTo(firstDay, occupancy);
+            }
+            occupancies.put(ratePlanId, occupancy);
+        }
+        return occupancies;
+    }
+
+    @Override
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.getBookingId() == null || event.getType() == null) {
+            log.warn("Ignoring booking event without booking ID or type: {}", event);
+            return;
+        }
+        log.debug("Applying {} event of booking {}", event.getType(), event.getBookingId());
+
+        if (BookingEventTypeEnum.BOOKED.equals(event.getType())) {
+            if (!hasStay(event)) {
+                log.warn("Ignoring booking event without rate plan or dates: {}", event);
+                return;
+            }
+            countedBookingsById.compute(event.getBookingId(), (bookingId, counted) -> {
+                if (cancelledBookingsById.containsKey(bookingId)) {
+                    log.debug("Ignoring booking event of cancelled booking {}", bookingId);
+                    return counted;
+                }
+                if (counted != null) {
+                    // Redelivered or modified booking: release what was counted before
+                    adjustOccupancy(counted, -1);
+                }
+                adjustOccupancy(event, 1);
+                return event;
+            });
+        } else {
+            // Step 1: Remember the cancellation first, so the booking event can no longer be counted
+            LocalDate forgetAfter = event.getCheckoutDate() != null
+                    ? event.getCheckoutDate()
+                    : LocalDate.now().plusDays(occupancyProperties.getCancellationRetention().toDays());
+            cancelledBookingsById.put(event.getBookingId(), forgetAfter);
+
+            // Step 2: Release the booking if it was counted, and keep the cancellation until its checkout
+            countedBookingsById.computeIfPresent(event.getBookingId(), (bookingId, counted) -> {
+                adjustOccupancy(counted, -1);
+                cancelledBookingsById.put(bookingId, counted.getCheckoutDate());
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Loads the snapshot of the active bookings at startup, then retries until it succeeds.
+     * Bookings already counted or cancelled from events are newer than the snapshot and kept.
+     */
+    @Scheduled(fixedDelayString = "${pricing.occupancy.snapshot-retry-interval:30s}")
+    public void loadSnapshotIfNeeded() {
+        if (initialized) {
+            return;
+        }
+        List<BookingChangedEvent> bookings;
+        try {
+            bookings = occupancySnapshotLoader.loadActiveBookings();
+        } catch (Exception e) {
+            log.warn("Failed to load occupancy snapshot, DYNAMIC rate tables are not priced until it loads: {}",
+                    e.getMessage());
+            return;
+        }
+
+        int counted = 0;
+        for (BookingChangedEvent booking : bookings) {
+            if (booking.getBookingId() == null || !hasStay(booking)) {
+                log.warn("Ignoring snapshot booking without booking ID, rate plan or dates: {}", booking);
+                continue;
+            }
+            BookingChangedEvent current = countedBookingsById.compute(booking.getBookingId(), (bookingId, alreadyCounted) -> {
+                if (alreadyCounted != null || cancelledBookingsById.containsKey(bookingId)) {
+                    return alreadyCounted;
+                }
+                adjustOccupancy(booking, 1);
+                return booking;
+            });
+            if (current == booking) {
+                counted++;
+            }
+        }
+        initialized = true;
+        log.info("Loaded occupancy snapshot: {} of {} bookings counted", counted, bookings.size());
+    }
+
+    /**
+     * Drops, every day, the bookings and cancellations whose checkout has passed and the counters of
+     * past nights, so memory follows the active bookings only.
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastBookings() {
+        evictPastBookings(LocalDate.now());
+    }
+
+    void evictPastBookings(LocalDate today) {
+        int bookings = countedBookingsById.size();
+        int cancellations = cancelledBookingsById.size();
+        // Only nights before today are dropped, which no quote reads anymore: counters are not released
+        countedBookingsById.entrySet().removeIf(entry -> !entry.getValue().getCheckoutDate().isAfter(today));
+        cancelledBookingsById.entrySet().removeIf(entry -> entry.getValue().isBefore(today));
+        long firstDay = today.toEpochDay();
+        calendarsByRatePlanId.values().forEach(calendar -> calendar.dropBefore(firstDay));
+        log.info("Evicted {} past bookings and {} past cancellations",
+                bookings - countedBookingsById.size(), cancellations - cancelledBookingsById.size());
+    }
+
+    private boolean hasStay(BookingChangedEvent booking) {
+        return booking.getRatePlanId() != null && booking.getCheckinDate() != null && booking.getCheckoutDate() != null;
+    }
+
+    private void adjustOccupancy(BookingChangedEvent booking, int delta) {
+        calendarsByRatePlanId.computeIfAbsent(booking.getRatePlanId(), id -> new OccupancyCalendar())
+                .adjust(booking.getCheckinDate().toEpochDay(), booking.getCheckoutDate().toEpochDay(), delta);
+    }
+}
@@ -0,0 +1,153 @@
+package com.smsmode.pricing.service.impl;
+
+import com.smsmode.pricing.config.PricingCalculationProperties;
+import com.smsmode.pricing.engine.CompiledRatePlan;
+import com.smsmode.pricing.engine.CompiledRateSource;
+import com.smsmode.pricing.engine.EpochDays;
+import com.smsmode.pricing.engine.GuestComposition;
+import com.smsmode.pricing.engine.GuestFeePlan;
+import com.smsmode.pricing.engine.MoneyMath;
+import com.smsmode.pricing.engine.SegmentChain;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.exception.BadRequestException;
+import com.smsmode.pricing.exception.enumeration.BadRequestExceptionTitleEnum;
+import com.smsmode.pricing.resource.pricecalendar.CalendarDayGetResource;
+import com.smsmode.pricing.resource.pricecalendar.PriceCalendarPostResource;
+import com.smsmode.pricing.resource.pricecalendar.UnitPriceCalendarGetResource;
+import com.smsmode.pricing.service.OccupancyService;
+import com.smsmode.pricing.service.PriceCalendarService;
+import com.smsmode.pricing.service.PricingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * PriceCalendarService implementation.
+ *
+ * Each calendar day is priced as a one-night stay checking in that day, in a single pass over the
+ * window: the rate plan's compiled rate table timeline gives the source of each day (rate table,
+ * otherwise default rate), and guest fees are compiled once per source for the whole window.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceCalendarServiceImpl implements PriceCalendarService {
+
+    private final PricingSnapshotService pricingSnapshotService;
+    private final PricingCalculationProperties pricingCalculationProperties;
+    private final OccupancyService occupancyService;
+
+    @Override
+    public ResponseEntity<List<UnitPriceCalendarGetResource>> calculateCalendar(PriceCalendarPostResource request) {
+        log.debug("Starting price calendar calculation for {} units", request.getUnits().size());
+
+        LocalDate startDate = parseDateFromString(request.getStartDate());
+        LocalDate endDate = parseDateFromString(request.getEndDate());
+
+        int days = (int) Math.max(0, endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        if (days > pricingCalculationProperties.getCalendarMaxDays()) {
+            log.debug("Rejecting price calendar window of {} days", days);
+            throw new BadRequestException(BadRequestExceptionTitleEnum.PRICE_CALENDAR_WINDOW_TOO_LONG,
+                    "Price calendar window of " + days + " days exceeds the maximum of "
+                            + pricingCalculationProperties.getCalendarMaxDays() + " days");
+        }
+
+        GuestComposition guests = GuestComposition.of(request.getGuests());
+        Map<String, UnitPricingSnapshot> snapshots = pricingSnapshotService.getSnapshots(request.getUnits());
+        SegmentChain segments = SegmentChain.of(request.getSubSegmentId(), request.getSegmentId());
+        Map<String, CompiledRatePlan> ratePlansByUnitId = resolveRatePlans(snapshots, segments);
+        Map<String, int[]> occupancies = getOccupancies(ratePlansByUnitId.values(), startDate, days);
+
+        List<UnitPriceCalendarGetResource> calendars = new ArrayList<>(request.getUnits().size());
+        for (String unitId : request.getUnits()) {
+            calendars.add(calculateCalendarForUnit(unitId, snapshots.get(unitId), ratePlansByUnitId.get(unitId),
+                    startDate, days, guests, occupancies));
+        }
+
+        log.info("Successfully calculated price calendar of {} days for {} units", days, calendars.size());
+        return ResponseEntity.ok(calendars);
+    }
+
+    private UnitPriceCalendarGetResource calculateCalendarForUnit(String unitId, UnitPricingSnapshot snapshot, CompiledRatePlan ratePlan,
+                                                                  LocalDate startDate, int days, GuestComposition guests,
+                                                                  Map<String, int[]> occupancies) {
+        CompiledRateSource defaultRate = snapshot != null ? snapshot.getDefaultRate() : null;
+        int[] occupancy = ratePlan != null ? occupancies.get(ratePlan.getId()) : null;
+        Map<CompiledRateSource, GuestFeePlan> guestFeePlans = new IdentityHashMap<>();
+
+        List<CalendarDayGetResource> calendarDays = new ArrayList<>(days);
+        long currentDay = startDate.toEpochDay();
+
+        for (int day = 0; day < days; day++) {
+            // Rate table covering the night, otherwise default rate
+            CompiledRateSource coveringTable = ratePlan != null ? ratePlan.findCovering(currentDay) : null;
+            CompiledRateSource source = coveringTable != null ? coveringTable : defaultRate;
+
+            CalendarDayGetResource calendarDay = new CalendarDayGetResource();
+            calendarDay.setDate(EpochDays.format(currentDay));
+            // DYNAMIC rate tables are not priced until occupancy is initialized
+            if (source != null && (occupancy != null || !source.isDynamic())) {
+                GuestFeePlan guestFeePlan = guestFeePlans.computeIfAbsent(source, s -> GuestFeePlan.of(s, guests));
+                long baseNightlyRate = source.getBaseNightlyOn(currentDay, occupancy != null ? occupancy[day] : 0);
+                calendarDay.setRate(MoneyMath.toAmount(Math.addExact(baseNightlyRate, guestFeePlan.feesFor(baseNightlyRate))));
+                calendarDay.setMinStay(source.getMinStay());
+                calendarDay.setMaxStay(source.getMaxStay());
+            }
+            calendarDays.add(calendarDay);
+
+            currentDay++;
+        }
+
+        UnitPriceCalendarGetResource calendar = new UnitPriceCalendarGetResource();
+        calendar.setId(unitId);
+        calendar.setDays(calendarDays);
+        return calendar;
+    }
+
+    /**
+     * Resolves the enabled rate plan of each unit for the segment chain (sub-segment, then segment)
+     * through the segment index of its snapshot. Units without an applicable rate plan are
+     * absent from the result and fall back to their default rate.
+     */
+    private Map<String, CompiledRatePlan> resolveRatePlans(Map<String, UnitPricingSnapshot> snapshots, SegmentChain segments) {
+        if (segments.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, CompiledRatePlan> ratePlansByUnitId = new HashMap<>();
+        for (UnitPricingSnapshot snapshot : snapshots.values()) {
+            CompiledRatePlan ratePlan = snapshot.findEnabledRatePlan(segments);
+            if (ratePlan != null) {
+                ratePlansByUnitId.put(snapshot.getUnitId(), ratePlan);
+            }
+        }
+        return ratePlansByUnitId;
+    }
+
+    /**
+     * Fetches the occupancy of the window, in one batch, for the rate plans applying to the units which need it.
+     */
+    private Map<String, int[]> getOccupancies(Collection<CompiledRatePlan> ratePlans, LocalDate startDate, int days) {
+        Set<String> ratePlanIds = new HashSet<>();
+        for (CompiledRatePlan ratePlan : ratePlans) {
+            if (ratePlan.isOccupancyDependent(startDate.toEpochDay(), startDate.toEpochDay() + days)) {
+                ratePlanIds.add(ratePlan.getId());
+            }
+        }
+        return ratePlanIds.isEmpty() ? Collections.emptyMap() : occupancyService.getOccupancies(ratePlanIds, startDate, days);
+    }
+
+    private LocalDate parseDateFromString(String dateString) {
+        try {
+            return LocalDate.parse(dateString, EpochDays.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            log.debug("Failed to parse date string '{}': {}", dateString, e.getMessage());
+            throw new BadRequestException(BadRequestExceptionTitleEnum.INVALID_DATE,
+                    "Invalid date format. Expected DD-MM-YYYY, got: " + dateString);
+        }
+    }
+}
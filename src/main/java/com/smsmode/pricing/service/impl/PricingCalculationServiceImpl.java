@@ -1,33 +1,50 @@
 package com.smsmode.pricing.service.impl;
 
-import com.smsmode.pricing.dao.service.DefaultRateDaoService;
-import com.smsmode.pricing.dao.service.RatePlanDaoService;
-import com.smsmode.pricing.dao.service.RateTableDaoService;
-import com.smsmode.pricing.enumeration.AmountTypeEnum;
-import com.smsmode.pricing.enumeration.GuestTypeEnum;
-import com.smsmode.pricing.model.*;
-import com.smsmode.pricing.resource.common.ChildResource;
-import com.smsmode.pricing.resource.common.GuestsResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smsmode.pricing.config.PricingCalculationProperties;
+import com.smsmode.pricing.engine.CompiledRatePlan;
+import com.smsmode.pricing.engine.CompiledRateSource;
+import com.smsmode.pricing.engine.EpochDays;
+import com.smsmode.pricing.engine.GuestComposition;
+import com.smsmode.pricing.engine.GuestFeePlan;
+import com.smsmode.pricing.engine.MoneyMath;
+import com.smsmode.pricing.engine.NightRateRuns;
+import com.smsmode.pricing.engine.QuoteKey;
+import com.smsmode.pricing.engine.SegmentChain;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.enumeration.NightRatesModeEnum;
 import com.smsmode.pricing.resource.common.NightRateGetResource;
+import com.smsmode.pricing.resource.common.NightRateRunGetResource;
 import com.smsmode.pricing.resource.common.UnitPricingGetResource;
 import com.smsmode.pricing.resource.pricecalculation.PriceCalculationPostResource;
+import com.smsmode.pricing.resource.pricecalculation.UnitPricingErrorGetResource;
+import com.smsmode.pricing.service.OccupancyService;
 import com.smsmode.pricing.service.PricingCalculationService;
+import com.smsmode.pricing.service.PricingSnapshotService;
+import com.smsmode.pricing.service.QuoteCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.net.URI;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Simplified PricingCalculationService implementation.
@@ -41,12 +58,16 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PricingCalculationServiceImpl implements PricingCalculationService {
 
-    private final DefaultRateDaoService defaultRateDaoService;
-    private final RatePlanDaoService ratePlanDaoService;
-    private final RateTableDaoService rateTableDaoService;
+    // Most stays span one or two rate changes (weekend rates, season boundaries)
+    private static final int INITIAL_RUN_CAPACITY = 8;
+
+    private final PricingSnapshotService pricingSnapshotService;
+    private final PricingCalculationProperties pricingCalculationProperties;
+    private final OccupancyService occupancyService;
+    private final QuoteCacheService quoteCacheService;
+    private final ObjectMapper objectMapper;
 
     @Override
     public ResponseEntity<List<UnitPricingGetResource>> calculatePricing(PriceCalculationPostResource request) {
@@ -54,481 +75,540 @@ public class PricingCalculationServiceImpl implements PricingCalculationService
 
         LocalDate checkinDate = parseDateFromString(request.getCheckinDate());
         LocalDate checkoutDate = parseDateFromString(request.getCheckoutDate());
+        // Guests are analysed once for all units
+        GuestComposition guests = GuestComposition.of(request.getGuests());
 
-        List<UnitPricingGetResource> unitPricings = new ArrayList<>();
-
-        for (String unitId : request.getUnits()) {
-            try {
-                UnitPricingGetResource unitPricing = calculatePricingForUnit(
-                        unitId, checkinDate, checkoutDate, request.getGuests(), request.getSegmentId());
-                unitPricings.add(unitPricing);
-            } catch (Exception e) {
-                log.warn("Failed to calculate pricing for unit {}: {}", unitId, e.getMessage());
-                unitPricings.add(createEmptyUnitPricing(unitId));
-            }
+        List<UnitPricingGetResource> unitPricings;
+        if (pricingCalculationProperties.isParallelEnabled()
+                && request.getUnits().size() > pricingCalculationProperties.getUnitsPerTask()) {
+            unitPricings = calculatePricingInParallel(request, guests, checkinDate, checkoutDate);
+        } else {
+            unitPricings = calculatePricingForUnits(request.getUnits(), request, guests, checkinDate, checkoutDate);
         }
 
         log.info("Successfully calculated pricing for {} units", unitPricings.size());
         return ResponseEntity.created(URI.create("")).body(unitPricings);
     }
 
-    private LocalDate parseDateFromString(String dateString) {
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-            return LocalDate.parse(dateString, formatter);
-        } catch (DateTimeParseException e) {
-            log.error("Failed to parse date string '{}': {}", dateString, e.getMessage());
-            throw new DateTimeParseException(
-                    "Invalid date format. Expected DD-MM-YYYY, got: " + dateString,
-                    dateString, e.getErrorIndex());
-        }
-    }
-
-    private String formatDateToString(LocalDate date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        return date.format(formatter);
-    }
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPricing(PriceCalculationPostResource request) {
+        log.debug("Starting streamed price calculation for {} units", request.getUnits().size());
 
-    private UnitPricingGetResource calculatePricingForUnit(String unitId, LocalDate checkinDate,
-                                                           LocalDate checkoutDate, GuestsResource guests,
-                                                           String segmentId) {
-        log.debug("Calculating pricing for unit: {}, dates: {} to {}", unitId, checkinDate, checkoutDate);
+        // Invalid dates fail the request before anything is streamed
+        LocalDate checkinDate = parseDateFromString(request.getCheckinDate());
+        LocalDate checkoutDate = parseDateFromString(request.getCheckoutDate());
+        GuestComposition guests = GuestComposition.of(request.getGuests());
+        List<List<String>> unitGroups = splitIntoGroups(request.getUnits());
 
-        List<NightRateGetResource> nightRates = null;
-        RatePlanModel foundRatePlan = null;
-
-        // Try rate plan if segment provided
-        if (StringUtils.hasText(segmentId)) {
-            nightRates = tryCalculateFromRatePlan(unitId, segmentId, checkinDate, checkoutDate, guests);
-            if (nightRates != null) {
-                Set<String> segmentUuids = Set.of(segmentId);
-                List<RatePlanModel> ratePlans = ratePlanDaoService.findEnabledRatePlansWithOverlappingSegments(segmentUuids);
-                foundRatePlan = ratePlans.stream()
-                        .filter(rp -> unitId.equals(rp.getUnit().getId()))
-                        .findFirst()
-                        .orElse(null);
+        StreamingResponseBody body = outputStream -> {
+            if (pricingCalculationProperties.isParallelEnabled() && unitGroups.size() > 1) {
+                streamPricingInParallel(outputStream, unitGroups, request, guests, checkinDate, checkoutDate);
+            } else {
+                streamPricingSequentially(outputStream, unitGroups, request, guests, checkinDate, checkoutDate);
             }
-        }
-
-        // Fallback to default rate
-        if (nightRates == null) {
-            nightRates = tryCalculateFromDefaultRate(unitId, checkinDate, checkoutDate, guests);
-        }
-
-        if (nightRates == null) {
-            log.warn("No pricing rules found for unit: {}", unitId);
-            return createEmptyUnitPricing(unitId);
-        }
-
-        BigDecimal totalAmount = calculateTotalAmount(nightRates);
-        BigDecimal averageRate = calculateAverageRate(nightRates);
-
-        Integer minStay = null;
-        Integer maxStay = null;
-
-        if (foundRatePlan != null) {
-            // Cas rate plan - vérifier quel source a été utilisé pour check-in date
-            RateTableModel checkinRateTable = rateTableDaoService.findRateTableForDate(foundRatePlan.getId(), checkinDate);
+            log.info("Successfully streamed pricing for {} units", request.getUnits().size());
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 
-            if (checkinRateTable != null) {
-                // Rate table utilisé pour check-in date
-                minStay = checkinRateTable.getMinStay();
-                maxStay = checkinRateTable.getMaxStay();
-                log.debug("Using rate table minStay/maxStay for check-in date: {}/{}", minStay, maxStay);
-            } else {
-                // Default rate utilisé pour check-in date
-                DefaultRateModel defaultRate = defaultRateDaoService.findWithRelatedDataForPricing(unitId);
-                if (defaultRate != null) {
-                    minStay = defaultRate.getMinStay();
-                    maxStay = defaultRate.getMaxStay();
-                    log.debug("Using default rate minStay/maxStay for check-in date: {}/{}", minStay, maxStay);
-                }
+    /**
+     * Prices the groups one after the other on the response thread, writing each unit as soon as it is
+     * priced: a slow client blocks the writes, hence the pricing.
+     */
+    private void streamPricingSequentially(OutputStream outputStream, List<List<String>> unitGroups,
+                                           PriceCalculationPostResource request, GuestComposition guests,
+                                           LocalDate checkinDate, LocalDate checkoutDate) throws IOException {
+        Consumer<UnitPricingOutcome> writer = outcome -> {
+            try {
+                writeOutcome(outputStream, outcome);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        } else {
-            // Cas default rate seulement
-            DefaultRateModel defaultRate = defaultRateDaoService.findWithRelatedDataForPricing(unitId);
-            if (defaultRate != null) {
-                minStay = defaultRate.getMinStay();
-                maxStay = defaultRate.getMaxStay();
-                log.debug("Using default rate minStay/maxStay: {}/{}", minStay, maxStay);
+        };
+        try {
+            for (List<String> unitGroup : unitGroups) {
+                try {
+                    calculatePricingForUnits(unitGroup, request, guests, checkinDate, checkoutDate, writer);
+                } catch (UncheckedIOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.warn("Failed to calculate pricing for units {}: {}", unitGroup, e.getMessage());
+                    unitGroup.forEach(unitId -> writer.accept(UnitPricingOutcome.failed(unitId, e.getMessage())));
+                }
             }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-
-        UnitPricingGetResource unitPricing = new UnitPricingGetResource();
-        unitPricing.setId(unitId);
-        unitPricing.setNightRates(nightRates);
-        unitPricing.setNightlyRate(averageRate);
-        unitPricing.setTotalAmount(totalAmount);
-        unitPricing.setMinStay(minStay);
-        unitPricing.setMaxStay(maxStay);
-
-        log.info("Successfully calculated pricing for unit: {} - Total: {}, Average: {}",
-                unitId, totalAmount, averageRate);
-        return unitPricing;
     }
 
-    private List<NightRateGetResource> tryCalculateFromRatePlan(String unitId, String segmentId,
-                                                                LocalDate checkinDate, LocalDate checkoutDate,
-                                                                GuestsResource guests) {
-        try {
-            Set<String> segmentUuids = Set.of(segmentId);
-            List<RatePlanModel> ratePlans = ratePlanDaoService.findEnabledRatePlansWithOverlappingSegments(segmentUuids);
-
-            Optional<RatePlanModel> applicableRatePlan = ratePlans.stream()
-                    .filter(rp -> unitId.equals(rp.getUnit().getId()))
-                    .findFirst();
-
-            if (applicableRatePlan.isEmpty()) {
-                log.debug("No applicable rate plan found for unit: {} with segment: {}", unitId, segmentId);
-                return null;
+    /**
+     * Prices the groups concurrently on virtual threads, each unit being written as soon as it is priced
+     * (in completion order). Pricings are handed over through a bounded buffer: once it is full because
+     * the client reads slower than units are priced, the pricing threads wait. If the client goes away,
+     * the pricing of the remaining units is cancelled.
+     */
+    private void streamPricingInParallel(OutputStream outputStream, List<List<String>> unitGroups,
+                                         PriceCalculationPostResource request, GuestComposition guests,
+                                         LocalDate checkinDate, LocalDate checkoutDate) throws IOException {
+        BlockingQueue<UnitPricingOutcome> outcomes =
+                new ArrayBlockingQueue<>(Math.max(1, pricingCalculationProperties.getStreamBufferSize()));
+        log.debug("Streaming pricing of {} units in parallel in {} groups", request.getUnits().size(), unitGroups.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<String> unitGroup : unitGroups) {
+                executor.submit(() -> {
+                    try {
+                        calculatePricingForUnits(unitGroup, request, guests, checkinDate, checkoutDate,
+                                outcome -> enqueue(outcomes, outcome));
+                    } catch (CancellationException e) {
+                        log.debug("Pricing of units {} cancelled", unitGroup);
+                    } catch (Exception e) {
+                        log.warn("Failed to calculate pricing for units {}: {}", unitGroup, e.getMessage());
+                        unitGroup.forEach(unitId -> enqueue(outcomes, UnitPricingOutcome.failed(unitId, e.getMessage())));
+                    }
+                });
             }
 
-            RatePlanModel ratePlan = applicableRatePlan.get();
-            log.debug("Found applicable rate plan: {} for unit: {}", ratePlan.getName(), unitId);
-
-            return calculateDailyRatesFromRatePlan(checkinDate, checkoutDate, ratePlan, guests);
-
-        } catch (Exception e) {
-            log.error("Error calculating from rate plan for unit: {}, segment: {}", unitId, segmentId, e);
-            return null;
+            // Every unit of every group gets exactly one outcome
+            try {
+                for (int written = 0; written < request.getUnits().size(); written++) {
+                    writeOutcome(outputStream, outcomes.take());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Streaming pricing aborted: {}", e.getMessage());
+                executor.shutdownNow();
+                throw e;
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while streaming pricing", e);
+            }
         }
     }
 
-    private List<NightRateGetResource> tryCalculateFromDefaultRate(String unitId, LocalDate checkinDate,
-                                                                   LocalDate checkoutDate, GuestsResource guests) {
+    /**
+     * Hands a unit pricing over to the response thread, waiting while the buffer is full.
+     */
+    private void enqueue(BlockingQueue<UnitPricingOutcome> outcomes, UnitPricingOutcome outcome) {
         try {
-            DefaultRateModel defaultRate = defaultRateDaoService.findWithRelatedDataForPricing(unitId);
-            if (defaultRate == null) {
-                log.debug("No default rate found for unit: {}", unitId);
-                return null;
-            }
-
-            log.debug("Found default rate for unit: {}", unitId);
-            return calculateDailyRatesFromDefaultRate(checkinDate, checkoutDate, defaultRate, guests);
-
-        } catch (Exception e) {
-            log.error("Error calculating from default rate for unit: {}", unitId, e);
-            return null;
+            outcomes.put(outcome);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Pricing stream closed");
         }
     }
 
     /**
-     * Calculates daily rates from rate plan with simple fallback logic
+     * Writes a unit pricing, or its error, as one line of JSON and flushes it to the client.
      */
-    private List<NightRateGetResource> calculateDailyRatesFromRatePlan(LocalDate checkinDate, LocalDate checkoutDate,
-                                                                       RatePlanModel ratePlan, GuestsResource guests) {
-        List<NightRateGetResource> nightRates = new ArrayList<>();
-        LocalDate currentDate = checkinDate;
-
-        // Get default rate for fallback when no rate table covers a date
-        DefaultRateModel defaultRate = defaultRateDaoService.findWithRelatedDataForPricing(ratePlan.getUnit().getId());
-
-        while (currentDate.isBefore(checkoutDate)) {
-            RateTableModel coveringTable = rateTableDaoService.findRateTableForDate(ratePlan.getId(), currentDate);
+    private void writeOutcome(OutputStream outputStream, UnitPricingOutcome outcome) throws IOException {
+        Object line = outcome.unitPricing() != null
+                ? outcome.unitPricing()
+                : new UnitPricingErrorGetResource(outcome.unitId(), outcome.error());
+        outputStream.write(objectMapper.writeValueAsBytes(line));
+        outputStream.write('\n');
+        outputStream.flush();
+    }
 
-            BigDecimal finalRate;
+    /**
+     * Prices the given units in request order; a unit that fails gets an empty pricing.
+     */
+    private List<UnitPricingGetResource> calculatePricingForUnits(List<String> unitIds, PriceCalculationPostResource request,
+                                                                  GuestComposition guests,
+                                                                  LocalDate checkinDate, LocalDate checkoutDate) {
+        List<UnitPricingGetResource> unitPricings = new ArrayList<>(unitIds.size());
+        calculatePricingForUnits(unitIds, request, guests, checkinDate, checkoutDate, outcome ->
+                unitPricings.add(outcome.unitPricing() != null
+                        ? outcome.unitPricing()
+                        : createEmptyUnitPricing(outcome.unitId(), request.getNightRatesMode())));
+        return unitPricings;
+    }
 
-            // Simple fallback: Rate table OR default rate (no mixing)
-            if (coveringTable != null) {
-                // Use rate table entirely
-                finalRate = calculateRateFromRateTable(currentDate, coveringTable, guests);
-                log.debug("Using rate table for {}: {}", currentDate, finalRate);
-            } else if (defaultRate != null) {
-                // Fallback to default rate entirely
-                finalRate = calculateRateFromDefaultRate(currentDate, defaultRate, guests);
-                log.debug("Fallback to default rate for {}: {}", currentDate, finalRate);
-            } else {
-                log.warn("No pricing source available for date: {}", currentDate);
-                return null;
+    /**
+     * Prices the given units in request order, handing each unit's outcome over as soon as it is known.
+     */
+    private void calculatePricingForUnits(List<String> unitIds, PriceCalculationPostResource request,
+                                          GuestComposition guests, LocalDate checkinDate, LocalDate checkoutDate,
+                                          Consumer<UnitPricingOutcome> outcomes) {
+        // Compiled pricing data of all units, loaded together for the units not cached yet
+        Map<String, UnitPricingSnapshot> snapshots = pricingSnapshotService.getSnapshots(unitIds);
+        // Rate plan applying to each unit for the sub-segment or segment, resolved once per unit
+        SegmentChain segments = SegmentChain.of(request.getSubSegmentId(), request.getSegmentId());
+        Map<String, CompiledRatePlan> ratePlansByUnitId = resolveRatePlans(snapshots, segments);
+        // Occupancy of the stay for the rate plans with DYNAMIC rate tables covering it, fetched in one batch
+        Map<String, int[]> occupancies = getOccupancies(ratePlansByUnitId.values(), checkinDate, checkoutDate);
+
+        for (String unitId : unitIds) {
+            UnitPricingSnapshot snapshot = snapshots.get(unitId);
+            CompiledRatePlan ratePlan = ratePlansByUnitId.get(unitId);
+            QuoteKey quoteKey = isQuoteCacheable(ratePlan, checkinDate, checkoutDate)
+                    ? new QuoteKey(unitId, checkinDate, checkoutDate, guests, segments, request.getNightRatesMode())
+                    : null;
+            UnitPricingGetResource cachedUnitPricing = quoteKey != null ? quoteCacheService.get(quoteKey, snapshot) : null;
+            if (cachedUnitPricing != null) {
+                log.debug("Using cached pricing for unit: {}", unitId);
+                outcomes.accept(UnitPricingOutcome.priced(cachedUnitPricing));
+                continue;
             }
 
-            NightRateGetResource nightRate = new NightRateGetResource();
-            nightRate.setDate(formatDateToString(currentDate));
-            nightRate.setRate(finalRate);
-            nightRates.add(nightRate);
-
-            currentDate = currentDate.plusDays(1);
+            UnitPricingOutcome outcome;
+            try {
+                UnitPricingGetResource unitPricing = calculatePricingForUnit(
+                        unitId, snapshot, ratePlan, checkinDate, checkoutDate, guests,
+                        occupancies, request.getNightRatesMode());
+                if (unitPricing != null) {
+                    if (quoteKey != null) {
+                        quoteCacheService.put(quoteKey, snapshot, unitPricing);
+                    }
+                    outcome = UnitPricingOutcome.priced(unitPricing);
+                } else {
+                    outcome = UnitPricingOutcome.failed(unitId, "No pricing rules found for unit");
+                }
+            } catch (Exception e) {
+                log.warn("Failed to calculate pricing for unit {}: {}", unitId, e.getMessage());
+                outcome = UnitPricingOutcome.failed(unitId, e.getMessage());
+            }
+            outcomes.accept(outcome);
         }
-
-        return nightRates;
     }
 
     /**
-     * Calculates daily rates using default rate only
+     * Splits the units into groups priced concurrently on virtual threads, each group loading its own
+     * pricing data. Results keep the request order; a group that fails gets empty pricings.
      */
-    private List<NightRateGetResource> calculateDailyRatesFromDefaultRate(LocalDate checkinDate, LocalDate checkoutDate,
-                                                                          DefaultRateModel defaultRate, GuestsResource guests) {
-        List<NightRateGetResource> nightRates = new ArrayList<>();
-        LocalDate currentDate = checkinDate;
-
-        while (currentDate.isBefore(checkoutDate)) {
-            BigDecimal finalRate = calculateRateFromDefaultRate(currentDate, defaultRate, guests);
-
-            NightRateGetResource nightRate = new NightRateGetResource();
-            nightRate.setDate(formatDateToString(currentDate));
-            nightRate.setRate(finalRate);
-            nightRates.add(nightRate);
+    private List<UnitPricingGetResource> calculatePricingInParallel(PriceCalculationPostResource request, GuestComposition guests,
+                                                                    LocalDate checkinDate, LocalDate checkoutDate) {
+        List<String> unitIds = request.getUnits();
+        List<List<String>> unitGroups = splitIntoGroups(unitIds);
+        log.debug("Pricing {} units in parallel in {} groups", unitIds.size(), unitGroups.size());
+
+        List<UnitPricingGetResource> unitPricings = new ArrayList<>(unitIds.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<UnitPricingGetResource>>> futures = new ArrayList<>(unitGroups.size());
+            for (List<String> unitGroup : unitGroups) {
+                futures.add(executor.submit(() -> calculatePricingForUnits(unitGroup, request, guests, checkinDate, checkoutDate)));
+            }
 
-            currentDate = currentDate.plusDays(1);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    unitPricings.addAll(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    log.warn("Failed to calculate pricing for units {}: {}", unitGroups.get(i), e.getCause().getMessage());
+                    unitGroups.get(i).forEach(unitId -> unitPricings.add(createEmptyUnitPricing(unitId, request.getNightRatesMode())));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while calculating pricing", e);
+                }
+            }
         }
 
-        return nightRates;
+        return unitPricings;
     }
 
     /**
-     * Calculates rate from rate table (nightly + day-specific + additional fees)
+     * Splits the units into the groups loaded and priced together.
      */
-    private BigDecimal calculateRateFromRateTable(LocalDate date, RateTableModel rateTable, GuestsResource guests) {
-        // Calculate base nightly rate (MAX between nightly and day-specific)
-        BigDecimal baseNightlyRate = calculateBaseNightlyRate(date, rateTable.getNightly(), rateTable.getDaySpecificRates());
-
-        // Apply additional guest fees
-        BigDecimal additionalFees = calculateAdditionalGuestFees(guests, rateTable.getAdditionalGuestFees(), baseNightlyRate);
-
-        BigDecimal finalRate = baseNightlyRate.add(additionalFees);
-        log.debug("Rate table calculation for {}: {} (base) + {} (fees) = {}", date, baseNightlyRate, additionalFees, finalRate);
-
-        return finalRate;
+    private List<List<String>> splitIntoGroups(List<String> unitIds) {
+        int unitsPerTask = Math.max(1, pricingCalculationProperties.getUnitsPerTask());
+        List<List<String>> unitGroups = new ArrayList<>();
+        for (int from = 0; from < unitIds.size(); from += unitsPerTask) {
+            unitGroups.add(unitIds.subList(from, Math.min(from + unitsPerTask, unitIds.size())));
+        }
+        return unitGroups;
     }
 
     /**
-     * Calculates rate from default rate (nightly + day-specific + additional fees)
+     * Resolves the enabled rate plan of each unit for the segment chain (sub-segment, then segment)
+     * through the segment index of its snapshot. Units without an applicable rate plan are
+     * absent from the result and fall back to their default rate.
      */
-    private BigDecimal calculateRateFromDefaultRate(LocalDate date, DefaultRateModel defaultRate, GuestsResource guests) {
-        // Calculate base nightly rate (MAX between nightly and day-specific)
-        BigDecimal baseNightlyRate = calculateBaseNightlyRate(date, defaultRate.getNightly(), defaultRate.getDaySpecificRates());
-
-        // Apply additional guest fees
-        BigDecimal additionalFees = calculateAdditionalGuestFees(guests, defaultRate.getAdditionalGuestFees(), baseNightlyRate);
+    private Map<String, CompiledRatePlan> resolveRatePlans(Map<String, UnitPricingSnapshot> snapshots, SegmentChain segments) {
+        if (segments.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, CompiledRatePlan> ratePlansByUnitId = new HashMap<>();
+        for (UnitPricingSnapshot snapshot : snapshots.values()) {
+            CompiledRatePlan ratePlan = snapshot.findEnabledRatePlan(segments);
+            if (ratePlan != null) {
+                ratePlansByUnitId.put(snapshot.getUnitId(), ratePlan);
+            }
+        }
+        return ratePlansByUnitId;
+    }
 
-        BigDecimal finalRate = baseNightlyRate.add(additionalFees);
-        log.debug("Default rate calculation for {}: {} (base) + {} (fees) = {}", date, baseNightlyRate, additionalFees, finalRate);
+    /**
+     * Pricings depending on occupancy (a night of the stay covered by a DYNAMIC rate table) change with
+     * bookings and are not cached.
+     */
+    private boolean isQuoteCacheable(CompiledRatePlan ratePlan, LocalDate checkinDate, LocalDate checkoutDate) {
+        return ratePlan == null || !isOccupancyDependent(ratePlan, checkinDate, checkoutDate);
+    }
 
-        return finalRate;
+    private boolean isOccupancyDependent(CompiledRatePlan ratePlan, LocalDate checkinDate, LocalDate checkoutDate) {
+        return ratePlan.isOccupancyDependent(checkinDate.toEpochDay(), checkoutDate.toEpochDay());
     }
 
     /**
-     * Calculates base nightly rate (MAX between regular nightly and day-specific)
+     * Fetches the occupancy of the stay for the rate plans applying to the units which need it.
      */
-    private BigDecimal calculateBaseNightlyRate(LocalDate date, BigDecimal regularNightly, List<DaySpecificRateModel> daySpecificRates) {
-        BigDecimal baseRate = regularNightly != null ? regularNightly : BigDecimal.ZERO;
-
-        // Check for day-specific rate
-        if (!CollectionUtils.isEmpty(daySpecificRates)) {
-            BigDecimal daySpecificRate = daySpecificRates.stream()
-                    .filter(dsr -> dsr.getDays().contains(date.getDayOfWeek()))
-                    .map(DaySpecificRateModel::getNightly)
-                    .findFirst()
-                    .orElse(null);
-
-            if (daySpecificRate != null) {
-                baseRate = baseRate.max(daySpecificRate);
-                log.debug("Applied day-specific rate for {} ({}): MAX({}, {}) = {}",
-                        date.getDayOfWeek(), date, regularNightly, daySpecificRate, baseRate);
+    private Map<String, int[]> getOccupancies(Collection<CompiledRatePlan> ratePlans,
+                                              LocalDate checkinDate, LocalDate checkoutDate) {
+        Set<String> ratePlanIds = new HashSet<>();
+        for (CompiledRatePlan ratePlan : ratePlans) {
+            if (isOccupancyDependent(ratePlan, checkinDate, checkoutDate)) {
+                ratePlanIds.add(ratePlan.getId());
             }
         }
+        if (ratePlanIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        log.debug("Fetching occupancy of {} rate plans from {} to {}", ratePlanIds.size(), checkinDate, checkoutDate);
+        return occupancyService.getOccupancies(ratePlanIds, checkinDate, countNights(checkinDate, checkoutDate));
+    }
 
-        return baseRate;
+    private LocalDate parseDateFromString(String dateString) {
+        try {
+            return LocalDate.parse(dateString, EpochDays.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            log.error("Failed to parse date string '{}': {}", dateString, e.getMessage());
+            throw new DateTimeParseException(
+                    "Invalid date format. Expected DD-MM-YYYY, got: " + dateString,
+                    dateString, e.getErrorIndex());
+        }
     }
 
     /**
-     * Calculates additional guest fees based on simplified guest logic
+     * Prices a unit from its rate plan (nullable) or its default rate; returns null if neither applies.
+     * Fails if a night of the stay is covered by a DYNAMIC rate table and occupancy is not initialized yet.
      */
-    private BigDecimal calculateAdditionalGuestFees(GuestsResource guests, List<AdditionalGuestFeeModel> additionalFees, BigDecimal baseNightlyRate) {
-        if (CollectionUtils.isEmpty(additionalFees)) {
-            log.debug("No additional guest fees defined");
-            return BigDecimal.ZERO;
+    private UnitPricingGetResource calculatePricingForUnit(String unitId, UnitPricingSnapshot snapshot, CompiledRatePlan ratePlan,
+                                                           LocalDate checkinDate, LocalDate checkoutDate,
+                                                           GuestComposition guests, Map<String, int[]> occupancies,
+                                                           NightRatesModeEnum nightRatesMode) {
+        log.debug("Calculating pricing for unit: {}, dates: {} to {}", unitId, checkinDate, checkoutDate);
+
+        CompiledRateSource defaultRate = snapshot != null ? snapshot.getDefaultRate() : null;
+
+        // Nightly rates in minor units, as runs of nights with the same rate
+        NightRateRuns nightRates = null;
+
+        // Try rate plan if one applies to the unit for the segment
+        if (ratePlan != null) {
+            log.debug("Found applicable rate plan: {} for unit: {}", ratePlan.getName(), unitId);
+            if (isOccupancyDependent(ratePlan, checkinDate, checkoutDate) && occupancies.get(ratePlan.getId()) == null) {
+                // No fallback to the default rate: the unit would be quoted below its DYNAMIC rate
+                throw new IllegalStateException("Occupancy not initialized, DYNAMIC rate tables cannot be priced yet");
+            }
+            try {
+                nightRates = calculateDailyRatesFromRatePlan(checkinDate, checkoutDate, ratePlan, defaultRate, guests,
+                        occupancies.get(ratePlan.getId()));
+            } catch (Exception e) {
+                log.error("Error calculating from rate plan for unit: {}", unitId, e);
+            }
         }
 
-        int totalAdults = guests.getAdults() != null ? guests.getAdults() : 0;
-        int totalChildren = getTotalChildren(guests.getChildren());
-
-        log.debug("Guest analysis: {} adults, {} children", totalAdults, totalChildren);
-
-        // Guest priority logic: Adults > Children
-        // First guest (adult if available, otherwise oldest child) pays base nightly rate
-        // All others are additional guests
-        int additionalAdults;
-        int additionalChildren;
-
-        if (totalAdults > 0) {
-            // Adults present: First adult gets base rate, others are additional
-            additionalAdults = totalAdults - 1;
-            additionalChildren = totalChildren; // All children are additional
-            log.debug("Adults present: 1 adult gets base rate, {} additional adults, {} additional children",
-                    additionalAdults, additionalChildren);
-        } else if (totalChildren > 0) {
-            // Only children: First child gets base rate, others are additional
-            additionalAdults = 0;
-            additionalChildren = totalChildren - 1;
-            log.debug("Only children: 1 child gets base rate, {} additional children", additionalChildren);
-        } else {
-            // No guests (shouldn't happen)
-            log.warn("No guests found in request");
-            return BigDecimal.ZERO;
+        // Fallback to default rate
+        if (nightRates == null && defaultRate != null) {
+            log.debug("Found default rate for unit: {}", unitId);
+            nightRates = calculateDailyRatesFromDefaultRate(checkinDate, checkoutDate, defaultRate, guests);
         }
 
-        BigDecimal totalAdditionalFees = BigDecimal.ZERO;
+        if (nightRates == null) {
+            log.warn("No pricing rules found for unit: {}", unitId);
+            return null;
+        }
+
+        Integer minStay = null;
+        Integer maxStay = null;
 
-        // Calculate adult additional fees
-        if (additionalAdults > 0) {
-            BigDecimal adultFees = calculateAdultAdditionalFees(additionalAdults, additionalFees);
-            totalAdditionalFees = totalAdditionalFees.add(adultFees);
-            log.debug("Adult additional fees: {}", adultFees);
+        // Source that priced the check-in night (rate table or default rate), otherwise default rate
+        CompiledRateSource checkinSource = nightRates.getRunCount() > 0 ? nightRates.getSource(0) : defaultRate;
+        if (checkinSource != null) {
+            minStay = checkinSource.getMinStay();
+            maxStay = checkinSource.getMaxStay();
+            log.debug("Using {} minStay/maxStay for check-in date: {}/{}", checkinSource.getSourceType(), minStay, maxStay);
         }
 
-        // Calculate child additional fees (grouped by buckets)
-        if (additionalChildren > 0) {
-            BigDecimal childFees = calculateChildAdditionalFees(guests.getChildren(), additionalChildren, additionalFees, baseNightlyRate);
-            totalAdditionalFees = totalAdditionalFees.add(childFees);
-            log.debug("Child additional fees: {}", childFees);
+        // Amounts are converted to BigDecimal only here, when building the resource
+        UnitPricingGetResource unitPricing = new UnitPricingGetResource();
+        unitPricing.setId(unitId);
+        if (NightRatesModeEnum.RUNS.equals(nightRatesMode)) {
+            unitPricing.setNightRateRuns(toNightRateRunResources(checkinDate, nightRates));
+        } else {
+            unitPricing.setNightRates(toNightRateResources(checkinDate, nightRates));
         }
+        unitPricing.setNightlyRate(nightRates.getNights() > 0 ? MoneyMath.toAmount(nightRates.getAverage()) : BigDecimal.ZERO);
+        unitPricing.setTotalAmount(nightRates.getNights() > 0 ? MoneyMath.toAmount(nightRates.getTotal()) : BigDecimal.ZERO);
+        unitPricing.setMinStay(minStay);
+        unitPricing.setMaxStay(maxStay);
 
-        log.debug("Total additional guest fees: {}", totalAdditionalFees);
-        return totalAdditionalFees;
+        log.info("Successfully calculated pricing for unit: {} - Total: {}, Average: {}",
+                unitId, unitPricing.getTotalAmount(), unitPricing.getNightlyRate());
+        return unitPricing;
     }
 
     /**
-     * Calculates adult additional fees
+     * Expands the runs into one night rate per night.
      */
-    private BigDecimal calculateAdultAdditionalFees(int additionalAdults, List<AdditionalGuestFeeModel> additionalFees) {
-        Optional<AdditionalGuestFeeModel> adultFee = additionalFees.stream()
-                .filter(fee -> GuestTypeEnum.ADULT.equals(fee.getGuestType()))
-                .findFirst();
-
-        if (adultFee.isEmpty()) {
-            log.debug("No adult fee configuration found");
-            return BigDecimal.ZERO;
+    private List<NightRateGetResource> toNightRateResources(LocalDate checkinDate, NightRateRuns nightRates) {
+        List<NightRateGetResource> nightRateResources = new ArrayList<>(nightRates.getNights());
+        long currentDay = checkinDate.toEpochDay();
+        for (int run = 0; run < nightRates.getRunCount(); run++) {
+            BigDecimal rate = MoneyMath.toAmount(nightRates.getRate(run));
+            CompiledRateSource source = nightRates.getSource(run);
+            for (int night = 0; night < nightRates.getNightCount(run); night++) {
+                NightRateGetResource nightRate = new NightRateGetResource();
+                nightRate.setDate(currentDay);
+                nightRate.setRate(rate);
+                nightRate.setSource(source.getSourceType());
+                nightRate.setSourceId(source.getId());
+                nightRateResources.add(nightRate);
+                currentDay++;
+            }
         }
+        return nightRateResources;
+    }
 
-        AdditionalGuestFeeModel fee = adultFee.get();
-        int chargeableAdults = Math.max(0, additionalAdults - (fee.getGuestCount() - 1));
-
-        BigDecimal totalFee = chargeableAdults > 0 ?
-                fee.getValue().multiply(BigDecimal.valueOf(chargeableAdults)) :
-                BigDecimal.ZERO;
-
-        log.debug("Adult fee calculation: {} additional adults, guestCount={}, chargeable={}, fee={}×{}={}",
-                additionalAdults, fee.getGuestCount(), chargeableAdults, fee.getValue(), chargeableAdults, totalFee);
-
-        return totalFee;
+    private List<NightRateRunGetResource> toNightRateRunResources(LocalDate checkinDate, NightRateRuns nightRates) {
+        List<NightRateRunGetResource> runResources = new ArrayList<>(nightRates.getRunCount());
+        long runStartDay = checkinDate.toEpochDay();
+        for (int run = 0; run < nightRates.getRunCount(); run++) {
+            int nights = nightRates.getNightCount(run);
+            NightRateRunGetResource runResource = new NightRateRunGetResource();
+            runResource.setStartDate(EpochDays.format(runStartDay));
+            runResource.setEndDate(EpochDays.format(runStartDay + nights - 1));
+            runResource.setRate(MoneyMath.toAmount(nightRates.getRate(run)));
+            runResource.setSource(nightRates.getSource(run).getSourceType());
+            runResource.setSourceId(nightRates.getSource(run).getId());
+            runResource.setNights(nights);
+            runResources.add(runResource);
+            runStartDay += nights;
+        }
+        return runResources;
     }
 
     /**
-     * Calculates child additional fees (grouped by age buckets)
+     * Calculates daily rates from rate plan with simple fallback logic.
+     * Each night is resolved against the compiled rate table timeline of the plan.
+     * The occupancy of each night (nullable) prices DYNAMIC rate tables.
      */
-    private BigDecimal calculateChildAdditionalFees(List<ChildResource> children, int additionalChildren,
-                                                    List<AdditionalGuestFeeModel> additionalFees, BigDecimal baseNightlyRate) {
-        if (CollectionUtils.isEmpty(children)) {
-            return BigDecimal.ZERO;
-        }
-
-        // Get child fee buckets
-        List<AdditionalGuestFeeModel> childFeeBuckets = additionalFees.stream()
-                .filter(fee -> GuestTypeEnum.CHILD.equals(fee.getGuestType()))
-                .filter(fee -> fee.getAgeBucket() != null)
-                .collect(Collectors.toList());
+    private NightRateRuns calculateDailyRatesFromRatePlan(LocalDate checkinDate, LocalDate checkoutDate,
+                                                          CompiledRatePlan ratePlan, CompiledRateSource defaultRate,
+                                                          GuestComposition guests, int[] occupancy) {
+        int nights = countNights(checkinDate, checkoutDate);
+        NightRateRuns nightRates = new NightRateRuns(INITIAL_RUN_CAPACITY);
+        // Nights are iterated as epoch days, without a date object per night
+        long currentDay = checkinDate.toEpochDay();
+        // Guest fees compiled once per rate source used during the stay
+        Map<CompiledRateSource, GuestFeePlan> guestFeePlans = new IdentityHashMap<>();
 
-        if (childFeeBuckets.isEmpty()) {
-            log.debug("No child fee buckets found");
-            return BigDecimal.ZERO;
-        }
+        for (int night = 0; night < nights; night++) {
+            CompiledRateSource coveringTable = ratePlan.findCovering(currentDay);
 
-        // Group children by age for processing (but maintain total additional children logic)
-        Map<Integer, Integer> childrenByAge = children.stream()
-                .collect(Collectors.groupingBy(
-                        ChildResource::getAge,
-                        Collectors.summingInt(ChildResource::getQuantity)
-                ));
-
-        BigDecimal totalChildFees = BigDecimal.ZERO;
-        int processedChildren = 0;
-
-        // Process each bucket and distribute additional children
-        for (AdditionalGuestFeeModel bucket : childFeeBuckets) {
-            // Find children in this bucket
-            int childrenInBucket = childrenByAge.entrySet().stream()
-                    .filter(entry -> {
-                        int age = entry.getKey();
-                        return age >= bucket.getAgeBucket().getFromAge() && age <= bucket.getAgeBucket().getToAge();
-                    })
-                    .mapToInt(Map.Entry::getValue)
-                    .sum();
-
-            if (childrenInBucket > 0) {
-                // Calculate additional children for this bucket (proportional distribution)
-                int additionalChildrenForBucket = Math.min(childrenInBucket, additionalChildren - processedChildren);
-
-                if (additionalChildrenForBucket > 0) {
-                    int chargeableChildren = Math.max(0, additionalChildrenForBucket - (bucket.getGuestCount() - 1));
-
-                    if (chargeableChildren > 0) {
-                        BigDecimal bucketFee = calculateFeeForBucket(bucket, chargeableChildren, baseNightlyRate);
-                        totalChildFees = totalChildFees.add(bucketFee);
-
-                        log.debug("Child bucket {}-{}: {} children in bucket, {} additional, {} chargeable, fee={}",
-                                bucket.getAgeBucket().getFromAge(), bucket.getAgeBucket().getToAge(),
-                                childrenInBucket, additionalChildrenForBucket, chargeableChildren, bucketFee);
-                    }
+            CompiledRateSource nightSource;
 
-                    processedChildren += additionalChildrenForBucket;
+            // Simple fallback: Rate table OR default rate (no mixing)
+            if (coveringTable != null) {
+                // Use rate table entirely
+                nightSource = coveringTable;
+                if (log.isDebugEnabled()) {
+                    log.debug("Using rate table {} for {}", coveringTable.getId(), LocalDate.ofEpochDay(currentDay));
+                }
+            } else if (defaultRate != null) {
+                // Fallback to default rate entirely
+                nightSource = defaultRate;
+                if (log.isDebugEnabled()) {
+                    log.debug("Fallback to default rate for {}", LocalDate.ofEpochDay(currentDay));
                 }
+            } else {
+                log.warn("No pricing source available for date: {}", LocalDate.ofEpochDay(currentDay));
+                return null;
+            }
+
+            GuestFeePlan guestFeePlan = guestFeePlans.get(nightSource);
+            if (guestFeePlan == null) {
+                guestFeePlan = GuestFeePlan.of(nightSource, guests);
+                guestFeePlans.put(nightSource, guestFeePlan);
             }
+            long finalRate = calculateRate(currentDay, nightSource, occupancy != null ? occupancy[night] : 0, guestFeePlan);
+            nightRates.add(finalRate, nightSource);
+            currentDay++;
         }
 
-        return totalChildFees;
+        return nightRates;
     }
 
     /**
-     * Calculates fee for a specific bucket
+     * Calculates daily rates using default rate only
      */
-    private BigDecimal calculateFeeForBucket(AdditionalGuestFeeModel bucket, int quantity, BigDecimal baseNightlyRate) {
-        if (quantity <= 0) {
-            return BigDecimal.ZERO;
+    private NightRateRuns calculateDailyRatesFromDefaultRate(LocalDate checkinDate, LocalDate checkoutDate,
+                                                             CompiledRateSource defaultRate, GuestComposition guests) {
+        int nights = countNights(checkinDate, checkoutDate);
+        NightRateRuns nightRates = new NightRateRuns(INITIAL_RUN_CAPACITY);
+        long currentDay = checkinDate.toEpochDay();
+        GuestFeePlan guestFeePlan = GuestFeePlan.of(defaultRate, guests);
+
+        for (int night = 0; night < nights; night++) {
+            nightRates.add(calculateRate(currentDay, defaultRate, 0, guestFeePlan), defaultRate);
+            currentDay++;
         }
 
-        if (AmountTypeEnum.PERCENT.equals(bucket.getAmountType())) {
-            return baseNightlyRate.multiply(bucket.getValue())
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(quantity));
-        } else {
-            return bucket.getValue().multiply(BigDecimal.valueOf(quantity));
-        }
+        return nightRates;
+    }
+
+    private int countNights(LocalDate checkinDate, LocalDate checkoutDate) {
+        return (int) Math.max(0, checkoutDate.toEpochDay() - checkinDate.toEpochDay());
     }
 
     /**
-     * Gets total number of children
+     * Calculates the rate of a night (epoch day) from a rate table or a default rate
+     * (nightly + day-specific + additional fees), in minor units.
      */
-    private int getTotalChildren(List<ChildResource> children) {
-        if (CollectionUtils.isEmpty(children)) {
-            return 0;
+    private long calculateRate(long epochDay, CompiledRateSource source, int occupancy, GuestFeePlan guestFeePlan) {
+        // Base nightly rate (MAX between nightly and day-specific), precomputed per day of week;
+        // the nightly rate of a DYNAMIC rate table is interpolated from the occupancy of the night
+        long baseNightlyRate = source.getBaseNightlyOn(epochDay, occupancy);
+
+        // Apply additional guest fees, compiled once for the stay
+        long additionalFees = guestFeePlan.feesFor(baseNightlyRate);
+
+        long finalRate = Math.addExact(baseNightlyRate, additionalFees);
+        // Guarded: the arguments would be boxed for every night otherwise
+        if (log.isDebugEnabled()) {
+            log.debug("{} calculation for {}: {} (base) + {} (fees) = {}",
+                    source.getSourceType(), LocalDate.ofEpochDay(epochDay), baseNightlyRate, additionalFees, finalRate);
         }
-        return children.stream().mapToInt(ChildResource::getQuantity).sum();
-    }
 
-    private BigDecimal calculateTotalAmount(List<NightRateGetResource> nightRates) {
-        return nightRates.stream()
-                .map(NightRateGetResource::getRate)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return finalRate;
     }
 
-    private BigDecimal calculateAverageRate(List<NightRateGetResource> nightRates) {
-        if (nightRates.isEmpty()) {
-            return BigDecimal.ZERO;
+    /**
+     * Outcome of pricing a unit: its pricing, or the reason it could not be priced.
+     */
+    private record UnitPricingOutcome(String unitId, UnitPricingGetResource unitPricing, String error) {
+
+        static UnitPricingOutcome priced(UnitPricingGetResource unitPricing) {
+            return new UnitPricingOutcome(unitPricing.getId(), unitPricing, null);
         }
 
-        BigDecimal total = calculateTotalAmount(nightRates);
-        return total.divide(BigDecimal.valueOf(nightRates.size()), 2, RoundingMode.HALF_UP);
+        static UnitPricingOutcome failed(String unitId, String error) {
+            return new UnitPricingOutcome(unitId, null, error);
+        }
     }
 
-    private UnitPricingGetResource createEmptyUnitPricing(String unitId) {
+    private UnitPricingGetResource createEmptyUnitPricing(String unitId, NightRatesModeEnum nightRatesMode) {
         UnitPricingGetResource emptyPricing = new UnitPricingGetResource();
         emptyPricing.setId(unitId);
-        emptyPricing.setNightRates(new ArrayList<>());
+        if (NightRatesModeEnum.RUNS.equals(nightRatesMode)) {
+            emptyPricing.setNightRateRuns(new ArrayList<>());
+        } else {
+            emptyPricing.setNightRates(new ArrayList<>());
+        }
         emptyPricing.setNightlyRate(BigDecimal.ZERO);
         emptyPricing.setTotalAmount(BigDecimal.ZERO);
         emptyPricing.setMinStay(null);
         emptyPricing.setMaxStay(null);
         return emptyPricing;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package com.smsmode.pricing.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smsmode.pricing.config.PricingCalculationProperties;
+import com.smsmode.pricing.dao.service.DefaultRateDaoService;
+import com.smsmode.pricing.dao.service.RatePlanDaoService;
+import com.smsmode.pricing.dao.service.RateTableDaoService;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
+import com.smsmode.pricing.model.DefaultRateModel;
+import com.smsmode.pricing.model.RatePlanModel;
+import com.smsmode.pricing.model.RateTableModel;
+import com.smsmode.pricing.service.PricingSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of PricingSnapshotService keeping one compiled snapshot per unit in a size-bounded
+ * Caffeine cache with a TTL, published as pricing.snapshots cache metrics.
+ *
+ * Snapshots are built on first use and dropped after the commit of any transaction changing the
+ * unit's default rate, rate plans or rate tables. A snapshot loaded while an invalidation happens
+ * is used for the current request but not cached, so a stale snapshot is never kept. A failed load
+ * propagates and caches nothing.
+ *
+ * Invalidation is in-process: with several instances, a change made through another instance is
+ * only seen here once the snapshot expires (pricing.calculation.snapshot-cache-ttl).
+ *
+ * Loads may run concurrently (parallel pricing); their number is capped so pricing never holds
+ * more than the configured number of database connections.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PricingSnapshotServiceImpl implements PricingSnapshotService {
+
+    private static final String CACHE_NAME = "pricing.snapshots";
+
+    private final DefaultRateDaoService defaultRateDaoService;
+    private final RatePlanDaoService ratePlanDaoService;
+    private final RateTableDaoService rateTableDaoService;
+    private final PlatformTransactionManager transactionManager;
+    private final PricingCalculationProperties pricingCalculationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private Cache<String, UnitPricingSnapshot> snapshotsByUnitId;
+    private Semaphore databaseLoadPermits;
+
+    @PostConstruct
+    void initDatabaseLoadPermits() {
+        int maxConcurrentLoads = Math.max(1, pricingCalculationProperties.getMaxConcurrentDatabaseLoads());
+        log.debug("Pricing snapshot loads limited to {} concurrent database connections", maxConcurrentLoads);
+        databaseLoadPermits = new Semaphore(maxConcurrentLoads, true);
+    }
+
+    @PostConstruct
+    void initSnapshotCache() {
+        log.debug("Pricing snapshot cache maximum size: {}, TTL: {}",
+                pricingCalculationProperties.getSnapshotCacheMaximumSize(), pricingCalculationProperties.getSnapshotCacheTtl());
+        snapshotsByUnitId = Caffeine.newBuilder()
+                .maximumSize(pricingCalculationProperties.getSnapshotCacheMaximumSize())
+                .expireAfterWrite(pricingCalculationProperties.getSnapshotCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshotsByUnitId, CACHE_NAME);
+    }
+
+    @Override
+    public Map<String, UnitPricingSnapshot> getSnapshots(Collection<String> unitIds) {
+        Map<String, UnitPricingSnapshot> snapshots = new HashMap<>();
+        Set<String> missingUnitIds = new HashSet<>();
+        for (String unitId : unitIds) {
+            UnitPricingSnapshot snapshot = snapshotsByUnitId.getIfPresent(unitId);
+            if (snapshot != null) {
+                snapshots.put(unitId, snapshot);
+            } else {
+                missingUnitIds.add(unitId);
+            }
+        }
+
+        if (!missingUnitIds.isEmpty()) {
+            log.debug("Loading pricing snapshots for {} units ({} cached)", missingUnitIds.size(), snapshots.size());
+            long invalidationsBeforeLoad = invalidationCount.get();
+            Map<String, UnitPricingSnapshot> loadedSnapshots = loadSnapshots(missingUnitIds);
+            snapshots.putAll(loadedSnapshots);
+            cacheSnapshots(loadedSnapshots, invalidationsBeforeLoad);
+        }
+
+        return snapshots;
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricingDataChanged(PricingDataChangedEvent event) {
+        log.debug("Invalidating pricing snapshots of units: {}", event.getUnitIds());
+        invalidationCount.incrementAndGet();
+        snapshotsByUnitId.invalidateAll(event.getUnitIds());
+    }
+
+    /**
+     * Caches loaded snapshots unless an invalidation happened since the load started.
+     * The count is checked again after each put, so an invalidation racing with the put removes it.
+     */
+    private void cacheSnapshots(Map<String, UnitPricingSnapshot> loadedSnapshots, long invalidationsBeforeLoad) {
+        for (Map.Entry<String, UnitPricingSnapshot> entry : loadedSnapshots.entrySet()) {
+            if (invalidationCount.get() != invalidationsBeforeLoad) {
+                log.debug("Pricing data changed while loading snapshots, not caching them");
+                return;
+            }
+            snapshotsByUnitId.put(entry.getKey(), entry.getValue());
+            if (invalidationCount.get() != invalidationsBeforeLoad) {
+                snapshotsByUnitId.asMap().remove(entry.getKey(), entry.getValue());
+                return;
+            }
+        }
+    }
+
+    private Map<String, UnitPricingSnapshot> loadSnapshots(Set<String> unitIds) {
+        try {
+            databaseLoadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to load pricing snapshots", e);
+        }
+        try {
+            return loadSnapshotsInTransaction(unitIds);
+        } finally {
+            databaseLoadPermits.release();
+        }
+    }
+
+    private Map<String, UnitPricingSnapshot> loadSnapshotsInTransaction(Set<String> unitIds) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> {
+            // Step 1: Default rates of the units
+            Map<String, DefaultRateModel> defaultRatesByUnitId = new HashMap<>();
+            for (DefaultRateModel defaultRate : defaultRateDaoService.findAllWithRelatedDataForPricing(unitIds)) {
+                defaultRatesByUnitId.putIfAbsent(defaultRate.getUnit().getId(), defaultRate);
+            }
+
+            // Step 2: Enabled rate plans of the units
+            Map<String, List<RatePlanModel>> ratePlansByUnitId = ratePlanDaoService.findEnabledWithSegmentsByUnitIds(unitIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(ratePlan -> ratePlan.getUnit().getId()));
+
+            // Step 3: All rate tables of those rate plans
+            Set<String> ratePlanIds = ratePlansByUnitId.values().stream()
+                    .flatMap(List::stream)
+                    .map(RatePlanModel::getId)
+                    .collect(Collectors.toSet());
+            Map<String, List<RateTableModel>> rateTablesByRatePlanId = rateTableDaoService.findAllWithRelatedDataForPricing(ratePlanIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(rateTable -> rateTable.getRatePlan().getId()));
+
+            // Step 4: Compile one snapshot per unit (also for units without any pricing data)
+            Map<String, UnitPricingSnapshot> snapshots = new HashMap<>();
+            for (String unitId : unitIds) {
+                snapshots.put(unitId, UnitPricingSnapshot.of(unitId, defaultRatesByUnitId.get(unitId),
+                        ratePlansByUnitId.getOrDefault(unitId, List.of()), rateTablesByRatePlanId));
+            }
+
+            log.debug("Compiled {} pricing snapshots from {} default rates, {} rate plans and {} rate tables",
+                    snapshots.size(), defaultRatesByUnitId.size(), ratePlanIds.size(),
+                    rateTablesByRatePlanId.values().stream().mapToInt(List::size).sum());
+            return snapshots;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.smsmode.pricing.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.smsmode.pricing.config.PricingCalculationProperties;
+import com.smsmode.pricing.engine.QuoteKey;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
+import com.smsmode.pricing.resource.common.UnitPricingGetResource;
+import com.smsmode.pricing.service.QuoteCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of QuoteCacheService backed by a size-bounded Caffeine cache with a TTL, whose
+ * hit/miss and eviction counts are published as pricing.quotes cache metrics.
+ *
+ * Each unit pricing is cached with the snapshot it was computed from and only served for that same
+ * snapshot, so a pricing computed from pricing data replaced in the meantime is never served.
+ * Pricings of a unit are also dropped as soon as its pricing data changes: the keys cached for each
+ * unit are indexed, so invalidating a unit is one lookup instead of a scan of the whole cache.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuoteCacheServiceImpl implements QuoteCacheService {
+
+    private static final String CACHE_NAME = "pricing.quotes";
+
+    private final PricingCalculationProperties pricingCalculationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<QuoteKey, CachedQuote> quotes;
+    // Keys cached for each unit, updated atomically with their entries (guarded per unit by the map)
+    private final Map<String, Set<QuoteKey>> keysByUnitId = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initQuoteCache() {
+        log.debug("Quote cache enabled: {}, maximum size: {}, TTL: {}", pricingCalculationProperties.isQuoteCacheEnabled(),
+                pricingCalculationProperties.getQuoteCacheMaximumSize(), pricingCalculationProperties.getQuoteCacheTtl());
+        quotes = Caffeine.newBuilder()
+                .maximumSize(pricingCalculationProperties.getQuoteCacheMaximumSize())
+                .expireAfterWrite(pricingCalculationProperties.getQuoteCacheTtl())
+                .evictionListener((QuoteKey key, CachedQuote cachedQuote, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, quotes, CACHE_NAME);
+    }
+
+    @Override
+    public UnitPricingGetResource get(QuoteKey key, UnitPricingSnapshot snapshot) {
+        if (!pricingCalculationProperties.isQuoteCacheEnabled()) {
+            return null;
+        }
+        CachedQuote cachedQuote = quotes.getIfPresent(key);
+        return cachedQuote != null && cachedQuote.snapshot() == snapshot ? cachedQuote.unitPricing() : null;
+    }
+
+    @Override
+    public void put(QuoteKey key, UnitPricingSnapshot snapshot, UnitPricingGetResource unitPricing) {
+        if (pricingCalculationProperties.isQuoteCacheEnabled()) {
+            quotes.asMap().compute(key, (cachedKey, previous) -> {
+                index(cachedKey);
+                return new CachedQuote(snapshot, unitPricing);
+            });
+        }
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricingDataChanged(PricingDataChangedEvent event) {
+        log.debug("Invalidating cached quotes of units: {}", event.getUnitIds());
+        for (String unitId : event.getUnitIds()) {
+            Set<QuoteKey> keys = keysByUnitId.remove(unitId);
+            if (keys != null) {
+                quotes.invalidateAll(keys);
+            }
+        }
+    }
+
+    private void index(QuoteKey key) {
+        keysByUnitId.compute(key.getUnitId(), (unitId, keys) -> {
+            Set<QuoteKey> unitKeys = keys != null ? keys : new HashSet<>();
+            unitKeys.add(key);
+            return unitKeys;
+        });
+    }
+
+    private void unindex(QuoteKey key) {
+        keysByUnitId.computeIfPresent(key.getUnitId(), (unitId, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private record CachedQuote(UnitPricingSnapshot snapshot, UnitPricingGetResource unitPricing) {
+    }
+}
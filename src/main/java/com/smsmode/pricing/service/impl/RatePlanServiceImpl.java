@@ -2,6 +2,7 @@ package com.smsmode.pricing.service.impl;
 
 import com.smsmode.pricing.dao.service.RatePlanDaoService;
 import com.smsmode.pricing.embeddable.SegmentRefEmbeddable;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
 import com.smsmode.pricing.exception.ConflictException;
 import com.smsmode.pricing.exception.enumeration.ConflictExceptionTitleEnum;
 import com.smsmode.pricing.mapper.RatePlanMapper;
@@ -12,6 +13,7 @@ import com.smsmode.pricing.resource.rateplan.RatePlanPostResource;
 import com.smsmode.pricing.service.RatePlanService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +36,7 @@ public class RatePlanServiceImpl implements RatePlanService {
 
     private final RatePlanMapper ratePlanMapper;
     private final RatePlanDaoService ratePlanDaoService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public ResponseEntity<RatePlanGetResource> create(RatePlanPostResource ratePlanPostResource) {
@@ -50,6 +53,7 @@ public class RatePlanServiceImpl implements RatePlanService {
         // Save to database
         ratePlanModel = ratePlanDaoService.save(ratePlanModel);
         log.info("Successfully created rate plan with ID: {}", ratePlanModel.getId());
+        applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(ratePlanModel)));
 
         // Transform model to GET resource
         RatePlanGetResource ratePlanGetResource = ratePlanMapper.modelToGetResource(ratePlanModel);
@@ -105,6 +109,7 @@ public class RatePlanServiceImpl implements RatePlanService {
         // Save updated model
         RatePlanModel updatedRatePlan = ratePlanDaoService.save(existingRatePlan);
         log.info("Successfully updated rate plan with ID: {}", ratePlanId);
+        applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(updatedRatePlan)));
 
         // Transform model to GET resource
         RatePlanGetResource response = ratePlanMapper.modelToGetResource(updatedRatePlan);
@@ -140,6 +145,10 @@ public class RatePlanServiceImpl implements RatePlanService {
         }
     }
 
+    private String getUnitId(RatePlanModel ratePlanModel) {
+        return ratePlanModel.getUnit() != null ? ratePlanModel.getUnit().getId() : null;
+    }
+
     private String findConflictingSegmentName(RatePlanModel newPlan, RatePlanModel existingPlan) {
         for (SegmentRefEmbeddable newSegment : newPlan.getSegments()) {
             for (SegmentRefEmbeddable existingSegment : existingPlan.getSegments()) {
@@ -162,6 +171,7 @@ public class RatePlanServiceImpl implements RatePlanService {
         // Delete from database
         ratePlanDaoService.delete(existingRatePlan);
         log.info("Successfully deleted rate plan with ID: {}", ratePlanId);
+        applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(existingRatePlan)));
 
         return ResponseEntity.noContent().build();
     }
@@ -1,16 +1,24 @@
 package com.smsmode.pricing.service.impl;
 
 import com.smsmode.pricing.dao.service.RateTableDaoService;
+import com.smsmode.pricing.engine.RateTableInterval;
+import com.smsmode.pricing.enumeration.BulkItemStatusEnum;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
 import com.smsmode.pricing.mapper.RateTableMapper;
 import com.smsmode.pricing.model.*;
+import com.smsmode.pricing.resource.common.BaseRateResource;
 import com.smsmode.pricing.resource.common.additionalguestfee.AdditionalGuestFeePostResource;
 import com.smsmode.pricing.resource.common.dayspecificrate.DaySpecificRatePostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkItemResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkPostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkResultGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTableGetResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePatchResource;
 import com.smsmode.pricing.resource.ratetable.RateTablePostResource;
 import com.smsmode.pricing.service.RateTableService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +28,13 @@ import org.springframework.util.StringUtils;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +48,7 @@ public class RateTableServiceImpl implements RateTableService {
 
     private final RateTableMapper rateTableMapper;
     private final RateTableDaoService rateTableDaoService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public ResponseEntity<RateTableGetResource> create(RateTablePostResource rateTablePostResource) {
@@ -54,6 +68,7 @@ public class RateTableServiceImpl implements RateTableService {
         // Save to database
         rateTableModel = rateTableDaoService.save(rateTableModel);
         log.info("Successfully created rate table with ID: {}", rateTableModel.getId());
+        applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(rateTableModel)));
 
         // Transform model to GET resource
         RateTableGetResource rateTableGetResource = rateTableMapper.modelToGetResource(rateTableModel);
@@ -61,6 +76,90 @@ public class RateTableServiceImpl implements RateTableService {
         return ResponseEntity.created(URI.create("")).body(rateTableGetResource);
     }
 
+    @Override
+    public ResponseEntity<List<RateTableBulkResultGetResource>> bulkUpsert(RateTableBulkPostResource rateTableBulkPostResource) {
+        List<RateTableBulkItemResource> items = rateTableBulkPostResource.getRateTables();
+        log.debug("Upserting {} rate tables for rate plan: {}", items.size(), rateTableBulkPostResource.getRatePlan().getId());
+
+        // Step 1: Resolve the rate plan and load its rate tables with their collections at once
+        // (a failed load fails the request, it must not turn every update into "not found")
+        RatePlanModel ratePlan = rateTableMapper.resolveRatePlan(rateTableBulkPostResource.getRatePlan().getId());
+        Map<String, RateTableModel> existingById = rateTableDaoService
+                .findAllWithRelatedDataForPricing(List.of(ratePlan.getId())).stream()
+                .collect(Collectors.toMap(RateTableModel::getId, Function.identity()));
+
+        // Step 2: Check each item on its own
+        RateTableBulkResultGetResource[] results = new RateTableBulkResultGetResource[items.size()];
+        Map<RateTableInterval, Integer> indexByInterval = new IdentityHashMap<>();
+        List<RateTableInterval> proposedRateTables = new ArrayList<>();
+        Set<String> updatedIds = new HashSet<>();
+        for (int index = 0; index < items.size(); index++) {
+            RateTableBulkItemResource item = items.get(index);
+            if (StringUtils.hasText(item.getId()) && !existingById.containsKey(item.getId())) {
+                results[index] = bulkResult(index, item.getId(), BulkItemStatusEnum.REJECTED,
+                        "Rate table not found in rate plan " + ratePlan.getId());
+            } else if (StringUtils.hasText(item.getId()) && !updatedIds.add(item.getId())) {
+                results[index] = bulkResult(index, item.getId(), BulkItemStatusEnum.REJECTED,
+                        "Rate table appears more than once in the request");
+            } else if (item.getEndDate().isBefore(item.getStartDate())) {
+                results[index] = bulkResult(index, item.getId(), BulkItemStatusEnum.REJECTED,
+                        "End date must not be before start date");
+            } else {
+                RateTableInterval interval = new RateTableInterval(
+                        StringUtils.hasText(item.getId()) ? item.getId() : null,
+                        item.getType(), item.getStartDate(), item.getEndDate());
+                indexByInterval.put(interval, index);
+                proposedRateTables.add(interval);
+            }
+        }
+
+        // Step 3: Check the remaining items for overlaps against the plan and each other in one pass
+        for (RateTableInterval overlapping : rateTableDaoService.findOverlappingRateTables(ratePlan.getId(), proposedRateTables)) {
+            int index = indexByInterval.get(overlapping);
+            results[index] = bulkResult(index, overlapping.getId(), BulkItemStatusEnum.REJECTED,
+                    String.format("Rate table of type %s with dates %s to %s overlaps with another rate table",
+                            overlapping.getType(), overlapping.getStartDate(), overlapping.getEndDate()));
+        }
+
+        // Step 4: Map the accepted items and persist them together
+        List<RateTableModel> rateTableModels = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (RateTableInterval interval : proposedRateTables) {
+            int index = indexByInterval.get(interval);
+            if (results[index] != null) {
+                continue;
+            }
+            RateTableBulkItemResource item = items.get(index);
+            RateTableModel rateTableModel;
+            if (interval.getId() != null) {
+                rateTableModel = existingById.get(interval.getId());
+                rateTableMapper.updateModelFromBulkItemResource(item, rateTableModel);
+                rateTableModel.getAdditionalGuestFees().clear();
+                rateTableModel.getDaySpecificRates().clear();
+            } else {
+                rateTableModel = rateTableMapper.bulkItemResourceToModel(item);
+                rateTableModel.setRatePlan(ratePlan);
+            }
+            handleCollections(rateTableModel, item);
+            rateTableModels.add(rateTableModel);
+            acceptedIndexes.add(index);
+        }
+        rateTableModels = rateTableDaoService.saveAll(rateTableModels);
+
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = bulkResult(index, rateTableModels.get(i).getId(),
+                    StringUtils.hasText(items.get(index).getId()) ? BulkItemStatusEnum.UPDATED : BulkItemStatusEnum.CREATED,
+                    null);
+        }
+        log.info("Upserted {} of {} rate tables for rate plan: {}", acceptedIndexes.size(), items.size(), ratePlan.getId());
+        if (!acceptedIndexes.isEmpty()) {
+            applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(rateTableModels.get(0))));
+        }
+
+        return ResponseEntity.ok(Arrays.asList(results));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponseEntity<Page<RateTableGetResource>> getAll(String ratePlanUuid, String search, Pageable pageable) {
@@ -97,6 +196,8 @@ public class RateTableServiceImpl implements RateTableService {
         // Find existing rate table
         RateTableModel existingRateTable = rateTableDaoService.findById(rateTableId);
         log.debug("Found existing rate table: {}", existingRateTable.getId());
+        // The patch may move the rate table to another rate plan
+        String previousUnitId = getUnitId(existingRateTable);
 
         // Update model with new data
         rateTableMapper.updateModelFromPatchResource(rateTablePatchResource, existingRateTable);
@@ -106,6 +207,8 @@ public class RateTableServiceImpl implements RateTableService {
         // Save updated model
         RateTableModel updatedRateTable = rateTableDaoService.save(existingRateTable);
         log.info("Successfully updated rate table with ID: {}", rateTableId);
+        applicationEventPublisher.publishEvent(
+                PricingDataChangedEvent.ofUnits(previousUnitId, getUnitId(updatedRateTable)));
 
         // Transform model to GET resource
         RateTableGetResource response = rateTableMapper.modelToGetResource(updatedRateTable);
@@ -123,11 +226,26 @@ public class RateTableServiceImpl implements RateTableService {
         // Delete from database
         rateTableDaoService.delete(existingRateTable);
         log.info("Successfully deleted rate table with ID: {}", rateTableId);
+        applicationEventPublisher.publishEvent(PricingDataChangedEvent.ofUnits(getUnitId(existingRateTable)));
 
         return ResponseEntity.noContent().build();
     }
 
-    private void handleCollections(RateTableModel model, RateTablePostResource resource) {
+    private String getUnitId(RateTableModel rateTableModel) {
+        RatePlanModel ratePlan = rateTableModel.getRatePlan();
+        return ratePlan != null && ratePlan.getUnit() != null ? ratePlan.getUnit().getId() : null;
+    }
+
+    private RateTableBulkResultGetResource bulkResult(int index, String id, BulkItemStatusEnum status, String message) {
+        RateTableBulkResultGetResource result = new RateTableBulkResultGetResource();
+        result.setIndex(index);
+        result.setId(id);
+        result.setStatus(status);
+        result.setMessage(message);
+        return result;
+    }
+
+    private void handleCollections(RateTableModel model, BaseRateResource resource) {
         if (resource.getAdditionalGuestFees() != null) {
             for (AdditionalGuestFeePostResource feeResource : resource.getAdditionalGuestFees()) {
                 AdditionalGuestFeeModel fee = rateTableMapper.additionalGuestFeePostResourceToModel(feeResource);
@@ -0,0 +1,91 @@
+-- ===================================================================
+-- Pricing schema, as previously created by Hibernate (ddl-auto)
+-- ===================================================================
+CREATE TABLE RATE_PLAN
+(
+    ID          uuid         NOT NULL PRIMARY KEY,
+    NAME        varchar(255) NOT NULL,
+    ENABLED     boolean      NOT NULL,
+    UNIT_ID     varchar(255) NOT NULL,
+    CREATED_AT  timestamp(6),
+    CREATED_BY  varchar(255) NOT NULL,
+    MODIFIED_AT timestamp(6),
+    MODIFIED_BY varchar(255) NOT NULL
+);
+
+CREATE TABLE RatePlanModel_segments
+(
+    RatePlanModel_ID uuid NOT NULL,
+    SEGMENT_ID       varchar(255),
+    SEGMENT_NAME     varchar(255),
+    CONSTRAINT FK_RATE_PLAN_SEGMENTS_RATE_PLAN FOREIGN KEY (RatePlanModel_ID) REFERENCES RATE_PLAN (ID)
+);
+
+CREATE TABLE DEFAULT_RATE
+(
+    ID          uuid          NOT NULL PRIMARY KEY,
+    nightly     numeric(38, 2) NOT NULL,
+    minStay     integer       NOT NULL,
+    maxStay     integer,
+    UNIT_ID     varchar(255)  NOT NULL,
+    CREATED_AT  timestamp(6),
+    CREATED_BY  varchar(255)  NOT NULL,
+    MODIFIED_AT timestamp(6),
+    MODIFIED_BY varchar(255)  NOT NULL
+);
+
+CREATE TABLE RATE_TABLE
+(
+    ID               uuid           NOT NULL PRIMARY KEY,
+    NAME             varchar(255)   NOT NULL,
+    START_DATE       date           NOT NULL,
+    END_DATE         date           NOT NULL,
+    TYPE             varchar(255)   NOT NULL CHECK (TYPE IN ('STANDARD', 'DYNAMIC')),
+    NIGHTLY          numeric(38, 2),
+    MIN_STAY         integer,
+    MAX_STAY         integer,
+    LOW_RATE         numeric(38, 2),
+    MAX_RATE         numeric(38, 2),
+    LOWEST_OCCUPANCY integer,
+    MAX_OCCUPANCY    integer,
+    RATE_PLAN_ID     uuid           NOT NULL,
+    CREATED_AT       timestamp(6),
+    CREATED_BY       varchar(255)   NOT NULL,
+    MODIFIED_AT      timestamp(6),
+    MODIFIED_BY      varchar(255)   NOT NULL,
+    CONSTRAINT FK_RATE_TABLE_RATE_PLAN FOREIGN KEY (RATE_PLAN_ID) REFERENCES RATE_PLAN (ID)
+);
+
+CREATE TABLE ADDITIONAL_GUEST_FEE
+(
+    ID              uuid           NOT NULL PRIMARY KEY,
+    guestCount      integer        NOT NULL,
+    guestType       varchar(255) CHECK (guestType IN ('ADULT', 'CHILD')),
+    fromAge         integer,
+    toAge           integer,
+    amountType      varchar(255) CHECK (amountType IN ('FLAT', 'PERCENT')),
+    value           numeric(38, 2),
+    DEFAULT_RATE_ID uuid,
+    RATE_TABLE_ID   uuid,
+    CREATED_AT      timestamp(6),
+    CREATED_BY      varchar(255)   NOT NULL,
+    MODIFIED_AT     timestamp(6),
+    MODIFIED_BY     varchar(255)   NOT NULL,
+    CONSTRAINT FK_ADDITIONAL_GUEST_FEE_DEFAULT_RATE FOREIGN KEY (DEFAULT_RATE_ID) REFERENCES DEFAULT_RATE (ID),
+    CONSTRAINT FK_ADDITIONAL_GUEST_FEE_RATE_TABLE FOREIGN KEY (RATE_TABLE_ID) REFERENCES RATE_TABLE (ID)
+);
+
+CREATE TABLE DAY_SPECIFIC_RATE
+(
+    ID              uuid           NOT NULL PRIMARY KEY,
+    nightly         numeric(38, 2),
+    days            varchar(255),
+    DEFAULT_RATE_ID uuid,
+    RATE_TABLE_ID   uuid,
+    CREATED_AT      timestamp(6),
+    CREATED_BY      varchar(255)   NOT NULL,
+    MODIFIED_AT     timestamp(6),
+    MODIFIED_BY     varchar(255)   NOT NULL,
+    CONSTRAINT FK_DAY_SPECIFIC_RATE_DEFAULT_RATE FOREIGN KEY (DEFAULT_RATE_ID) REFERENCES DEFAULT_RATE (ID),
+    CONSTRAINT FK_DAY_SPECIFIC_RATE_RATE_TABLE FOREIGN KEY (RATE_TABLE_ID) REFERENCES RATE_TABLE (ID)
+);
@@ -0,0 +1,26 @@
+-- ===================================================================
+-- Indexes matching the pricing query shapes (benchmark: db/benchmark/pricing-query-plans.sql)
+-- ===================================================================
+
+-- Rate tables of rate plans by dates: coverage lookups (RateTableSpecification.withDateRangeCoverage,
+-- withSpecificDateCoverage), snapshot loads (ratePlan.id in ...) and overlap checks; the overlap
+-- checks only read indexed columns (index-only scan)
+CREATE INDEX IDX_RATE_TABLE_RATE_PLAN_DATES ON RATE_TABLE (RATE_PLAN_ID, START_DATE, END_DATE) INCLUDE (TYPE, ID);
+
+-- Fees and day-specific rates loaded by owner (entity graph batch loads) and removed with it
+CREATE INDEX IDX_ADDITIONAL_GUEST_FEE_RATE_TABLE ON ADDITIONAL_GUEST_FEE (RATE_TABLE_ID);
+CREATE INDEX IDX_ADDITIONAL_GUEST_FEE_DEFAULT_RATE ON ADDITIONAL_GUEST_FEE (DEFAULT_RATE_ID);
+CREATE INDEX IDX_DAY_SPECIFIC_RATE_RATE_TABLE ON DAY_SPECIFIC_RATE (RATE_TABLE_ID);
+CREATE INDEX IDX_DAY_SPECIFIC_RATE_DEFAULT_RATE ON DAY_SPECIFIC_RATE (DEFAULT_RATE_ID);
+
+-- Default rates by unit (DefaultRateSpecification.withUnitId, unit.id in ...)
+CREATE INDEX IDX_DEFAULT_RATE_UNIT ON DEFAULT_RATE (UNIT_ID);
+
+-- Rate plans by unit (RatePlanSpecification.withUnitUuid), enabled ones for pricing
+CREATE INDEX IDX_RATE_PLAN_UNIT_ENABLED ON RATE_PLAN (UNIT_ID, ENABLED);
+
+-- Enabled rate plans by segment (RatePlanSpecification.withOverlappingSegments): the segment
+-- lookup yields the rate plan IDs without reading the collection table; the second index serves
+-- loading the segments of rate plans
+CREATE INDEX IDX_RATE_PLAN_SEGMENTS_SEGMENT ON RatePlanModel_segments (SEGMENT_ID, RatePlanModel_ID);
+CREATE INDEX IDX_RATE_PLAN_SEGMENTS_RATE_PLAN ON RatePlanModel_segments (RatePlanModel_ID);
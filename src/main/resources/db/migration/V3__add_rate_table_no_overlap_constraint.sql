@@ -0,0 +1,13 @@
+-- ===================================================================
+-- Rate tables of the same rate plan and type never overlap: the database enforces it, race-free,
+-- with an exclusion constraint on the inclusive DATES range of each rate table.
+-- Its GiST index also serves point-in-date lookups (DATES @> date).
+-- ===================================================================
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE RATE_TABLE
+    ADD COLUMN DATES daterange GENERATED ALWAYS AS (daterange(START_DATE, END_DATE, '[]')) STORED;
+
+ALTER TABLE RATE_TABLE
+    ADD CONSTRAINT EX_RATE_TABLE_NO_OVERLAP
+        EXCLUDE USING gist (RATE_PLAN_ID WITH =, TYPE WITH =, DATES WITH &&);
@@ -0,0 +1,12 @@
+-- ===================================================================
+-- The non-overlap of rate tables is checked at commit instead of per row: a bulk upsert moving a
+-- rate table and creating another one in its former dates is valid as a whole, whatever order
+-- its rows are written in.
+-- ===================================================================
+ALTER TABLE RATE_TABLE
+    DROP CONSTRAINT EX_RATE_TABLE_NO_OVERLAP;
+
+ALTER TABLE RATE_TABLE
+    ADD CONSTRAINT EX_RATE_TABLE_NO_OVERLAP
+        EXCLUDE USING gist (RATE_PLAN_ID WITH =, TYPE WITH =, DATES WITH &&)
+        DEFERRABLE INITIALLY DEFERRED;
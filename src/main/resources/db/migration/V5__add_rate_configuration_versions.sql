@@ -0,0 +1,13 @@
+-- ===================================================================
+-- Optimistic locking of the rate configuration: each instance keeps its own second-level cache,
+-- so an update based on a stale cached rate plan, rate table or default rate must fail instead
+-- of overwriting a newer row.
+-- ===================================================================
+ALTER TABLE RATE_PLAN
+    ADD COLUMN VERSION bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE RATE_TABLE
+    ADD COLUMN VERSION bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE DEFAULT_RATE
+    ADD COLUMN VERSION bigint NOT NULL DEFAULT 0;
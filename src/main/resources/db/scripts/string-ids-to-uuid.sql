@@ -0,0 +1,51 @@
+-- ===================================================================
+-- Converts the varchar IDs of an existing pricing database to native uuid columns.
+-- Existing (random) IDs are kept as they are; new rows get time-ordered IDs from the application.
+-- Run once, with the application stopped: psql -v ON_ERROR_STOP=1 -f string-ids-to-uuid.sql
+-- ===================================================================
+BEGIN;
+
+-- Step 1: Drop the foreign keys on the converted columns (their names were generated by Hibernate)
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS table_name, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND conrelid::regclass::text IN ('additional_guest_fee', 'day_specific_rate', 'rate_table', 'rateplanmodel_segments')
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+-- Step 2: Convert the primary keys and the foreign key columns
+ALTER TABLE rate_plan ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE default_rate ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE rate_table
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN rate_plan_id TYPE uuid USING rate_plan_id::uuid;
+ALTER TABLE additional_guest_fee
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN default_rate_id TYPE uuid USING default_rate_id::uuid,
+    ALTER COLUMN rate_table_id TYPE uuid USING rate_table_id::uuid;
+ALTER TABLE day_specific_rate
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN default_rate_id TYPE uuid USING default_rate_id::uuid,
+    ALTER COLUMN rate_table_id TYPE uuid USING rate_table_id::uuid;
+ALTER TABLE rateplanmodel_segments ALTER COLUMN rateplanmodel_id TYPE uuid USING rateplanmodel_id::uuid;
+
+-- Step 3: Restore the foreign keys
+ALTER TABLE rate_table
+    ADD CONSTRAINT fk_rate_table_rate_plan FOREIGN KEY (rate_plan_id) REFERENCES rate_plan (id);
+ALTER TABLE additional_guest_fee
+    ADD CONSTRAINT fk_additional_guest_fee_default_rate FOREIGN KEY (default_rate_id) REFERENCES default_rate (id),
+    ADD CONSTRAINT fk_additional_guest_fee_rate_table FOREIGN KEY (rate_table_id) REFERENCES rate_table (id);
+ALTER TABLE day_specific_rate
+    ADD CONSTRAINT fk_day_specific_rate_default_rate FOREIGN KEY (default_rate_id) REFERENCES default_rate (id),
+    ADD CONSTRAINT fk_day_specific_rate_rate_table FOREIGN KEY (rate_table_id) REFERENCES rate_table (id);
+ALTER TABLE rateplanmodel_segments
+    ADD CONSTRAINT fk_rate_plan_segments_rate_plan FOREIGN KEY (rateplanmodel_id) REFERENCES rate_plan (id);
+
+COMMIT;
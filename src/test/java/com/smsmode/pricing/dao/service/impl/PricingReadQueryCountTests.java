@@ -0,0 +1,200 @@
+package com.smsmode.pricing.dao.service.impl;
+
+import com.smsmode.pricing.config.AuditingConfig;
+import com.smsmode.pricing.embeddable.AgeBucketEmbeddable;
+import com.smsmode.pricing.embeddable.SegmentRefEmbeddable;
+import com.smsmode.pricing.embeddable.UnitRefEmbeddable;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.enumeration.AmountTypeEnum;
+import com.smsmode.pricing.enumeration.GuestTypeEnum;
+import com.smsmode.pricing.model.AdditionalGuestFeeModel;
+import com.smsmode.pricing.model.DaySpecificRateModel;
+import com.smsmode.pricing.model.DefaultRateModel;
+import com.smsmode.pricing.model.RatePlanModel;
+import com.smsmode.pricing.model.RateTableModel;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pricing reads fetch default rates, rate plans, rate tables and their children with a fixed number
+ * of queries, whatever the number of priced units, and compiling snapshots triggers no lazy loading.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pricing;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.cloud.consul.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditingConfig.class, DefaultRateDaoServiceImpl.class, RatePlanDaoServiceImpl.class, RateTableDaoServiceImpl.class})
+class PricingReadQueryCountTests {
+
+    // Default rates and their day-specific rates, rate plans with segments, rate tables and their day-specific rates
+    private static final long PRICING_READ_QUERIES = 5;
+    private static final String SEGMENT_ID = "segment-1";
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private DefaultRateDaoServiceImpl defaultRateDaoService;
+    @Autowired
+    private RatePlanDaoServiceImpl ratePlanDaoService;
+    @Autowired
+    private RateTableDaoServiceImpl rateTableDaoService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void singleUnitIsReadWithFixedQueryCount() {
+        List<String> unitIds = persistUnits(1);
+
+        assertEquals(PRICING_READ_QUERIES, countPricingReadQueries(unitIds));
+    }
+
+    @Test
+    void manyUnitsAreReadWithSameQueryCount() {
+        List<String> unitIds = persistUnits(20);
+
+        assertEquals(PRICING_READ_QUERIES, countPricingReadQueries(unitIds));
+    }
+
+    @Test
+    void singleDefaultRateIsReadWithoutLazyLoading() {
+        List<String> unitIds = persistUnits(1);
+        statistics.clear();
+
+        DefaultRateModel defaultRate = defaultRateDaoService.findWithRelatedDataForPricing(unitIds.get(0));
+        defaultRate.getAdditionalGuestFees().forEach(AdditionalGuestFeeModel::getValue);
+        defaultRate.getDaySpecificRates().forEach(DaySpecificRateModel::getNightly);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Reads the pricing data of the units as the snapshot service does, compiles their snapshots and
+     * returns the number of statements executed.
+     */
+    private long countPricingReadQueries(List<String> unitIds) {
+        statistics.clear();
+
+        Map<String, DefaultRateModel> defaultRates = defaultRateDaoService.findAllWithRelatedDataForPricing(unitIds)
+                .stream().collect(Collectors.toMap(defaultRate -> defaultRate.getUnit().getId(), defaultRate -> defaultRate));
+        List<RatePlanModel> ratePlans = ratePlanDaoService.findEnabledWithSegmentsByUnitIds(unitIds);
+        Map<String, List<RateTableModel>> rateTables = rateTableDaoService.findAllWithRelatedDataForPricing(
+                        ratePlans.stream().map(RatePlanModel::getId).toList())
+                .stream().collect(Collectors.groupingBy(rateTable -> rateTable.getRatePlan().getId()));
+
+        for (String unitId : unitIds) {
+            List<RatePlanModel> unitRatePlans = ratePlans.stream()
+                    .filter(ratePlan -> ratePlan.getUnit().getId().equals(unitId)).toList();
+            UnitPricingSnapshot.of(unitId, defaultRates.get(unitId), unitRatePlans, rateTables);
+        }
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<String> persistUnits(int count) {
+        List<String> unitIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String unitId = "unit-" + i;
+            unitIds.add(unitId);
+
+            DefaultRateModel defaultRate = new DefaultRateModel();
+            defaultRate.setNightly(new BigDecimal("100.00"));
+            defaultRate.setMinStay(1);
+            defaultRate.setUnit(unitRef(unitId));
+            defaultRate.getAdditionalGuestFees().add(adultFee(fee -> fee.setRate(defaultRate)));
+            defaultRate.getAdditionalGuestFees().add(childFee(fee -> fee.setRate(defaultRate)));
+            defaultRate.getDaySpecificRates().add(weekendRate(rate -> rate.setRate(defaultRate)));
+            entityManager.persist(defaultRate);
+
+            RatePlanModel ratePlan = new RatePlanModel();
+            ratePlan.setName("Plan " + i);
+            ratePlan.setEnabled(true);
+            ratePlan.setUnit(unitRef(unitId));
+            SegmentRefEmbeddable segment = new SegmentRefEmbeddable();
+            segment.setId(SEGMENT_ID);
+            segment.setName("Segment");
+            ratePlan.setSegments(new HashSet<>(Set.of(segment)));
+            entityManager.persist(ratePlan);
+
+            for (int month = 1; month <= 2; month++) {
+                RateTableModel rateTable = new RateTableModel();
+                rateTable.setName("Table " + month);
+                rateTable.setStartDate(LocalDate.of(2025, month, 1));
+                rateTable.setEndDate(LocalDate.of(2025, month, 28));
+                rateTable.setNightly(new BigDecimal("120.00"));
+                rateTable.setRatePlan(ratePlan);
+                rateTable.getAdditionalGuestFees().add(adultFee(fee -> fee.setRateTable(rateTable)));
+                rateTable.getDaySpecificRates().add(weekendRate(rate -> rate.setRateTable(rateTable)));
+                entityManager.persist(rateTable);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return unitIds;
+    }
+
+    private UnitRefEmbeddable unitRef(String unitId) {
+        UnitRefEmbeddable unit = new UnitRefEmbeddable();
+        unit.setId(unitId);
+        return unit;
+    }
+
+    private AdditionalGuestFeeModel adultFee(Consumer<AdditionalGuestFeeModel> owner) {
+        AdditionalGuestFeeModel fee = new AdditionalGuestFeeModel();
+        fee.setGuestType(GuestTypeEnum.ADULT);
+        fee.setGuestCount(2);
+        fee.setAmountType(AmountTypeEnum.FLAT);
+        fee.setValue(new BigDecimal("20.00"));
+        owner.accept(fee);
+        return fee;
+    }
+
+    private AdditionalGuestFeeModel childFee(Consumer<AdditionalGuestFeeModel> owner) {
+        AdditionalGuestFeeModel fee = adultFee(owner);
+        fee.setGuestType(GuestTypeEnum.CHILD);
+        AgeBucketEmbeddable ageBucket = new AgeBucketEmbeddable();
+        ageBucket.setFromAge(0);
+        ageBucket.setToAge(12);
+        fee.setAgeBucket(ageBucket);
+        return fee;
+    }
+
+    private DaySpecificRateModel weekendRate(Consumer<DaySpecificRateModel> owner) {
+        DaySpecificRateModel rate = new DaySpecificRateModel();
+        rate.setNightly(new BigDecimal("150.00"));
+        rate.setDays(Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        owner.accept(rate);
+        return rate;
+    }
+}
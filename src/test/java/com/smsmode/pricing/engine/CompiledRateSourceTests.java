@@ -0,0 +1,106 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import com.smsmode.pricing.model.DaySpecificRateModel;
+import com.smsmode.pricing.model.RateTableModel;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Base nightly rates of compiled rate tables: STANDARD tables fold day-specific rates over the nightly
+ * rate, DYNAMIC tables interpolate between their low and max rates from the occupancy of the night.
+ */
+class CompiledRateSourceTests {
+
+    @ParameterizedTest(name = "{0}: base {1}")
+    @CsvSource({
+            "MONDAY, 100.00",
+            // A lower day-specific rate does not apply
+            "SATURDAY, 100.00",
+            "SUNDAY, 120.00"
+    })
+    void standardBaseRateIsMaxOfNightlyAndDaySpecificRate(DayOfWeek day, String expectedBase) {
+        RateTableModel rateTable = rateTable(RateTableTypeEnum.STANDARD);
+        rateTable.setNightly(new BigDecimal("100.00"));
+        rateTable.getDaySpecificRates().add(daySpecificRate(DayOfWeek.SATURDAY, "90.00"));
+        rateTable.getDaySpecificRates().add(daySpecificRate(DayOfWeek.SUNDAY, "120.00"));
+
+        CompiledRateSource source = CompiledRateSource.of(rateTable);
+
+        assertEquals(new BigDecimal(expectedBase), MoneyMath.toAmount(source.getBaseNightly(day, 3)));
+    }
+
+    @ParameterizedTest(name = "{0} to {1} over occupancy {2}..{3}, at {4}: {5}")
+    @CsvSource({
+            // At and below the lowest occupancy
+            "100.00, 200.00, 2, 5, 0, 100.00",
+            "100.00, 200.00, 2, 5, 2, 100.00",
+            // Between the bounds: 133.333.. and 166.666.. rounded half up
+            "100.00, 200.00, 2, 5, 3, 133.33",
+            "100.00, 200.00, 2, 5, 4, 166.67",
+            // At and above the max occupancy
+            "100.00, 200.00, 2, 5, 5, 200.00",
+            "100.00, 200.00, 2, 5, 9, 200.00",
+            // Tie: 100.025 rounded half up
+            "100.00, 100.05, 0, 2, 1, 100.03",
+            "80.00, 95.50, 10, 40, 17, 83.62"
+    })
+    void dynamicBaseRateIsInterpolatedLikeBigDecimal(String lowRate, String maxRate, int lowestOccupancy,
+                                                     int maxOccupancy, int occupancy, String expectedBase) {
+        RateTableModel rateTable = dynamicRateTable(lowRate, maxRate, lowestOccupancy, maxOccupancy);
+        int clamped = Math.min(Math.max(occupancy, lowestOccupancy), maxOccupancy);
+        BigDecimal reference = new BigDecimal(lowRate).add(new BigDecimal(maxRate).subtract(new BigDecimal(lowRate))
+                .multiply(BigDecimal.valueOf(clamped - lowestOccupancy))
+                .divide(BigDecimal.valueOf(maxOccupancy - lowestOccupancy), MoneyMath.SCALE, RoundingMode.HALF_UP));
+
+        CompiledRateSource source = CompiledRateSource.of(rateTable);
+
+        assertEquals(new BigDecimal(expectedBase), reference);
+        assertEquals(reference, MoneyMath.toAmount(source.getBaseNightly(DayOfWeek.MONDAY, occupancy)));
+    }
+
+    @ParameterizedTest(name = "Saturday at occupancy {0}: {1}")
+    @CsvSource({
+            "2, 150.00",
+            "4, 166.67",
+            "5, 200.00"
+    })
+    void dynamicBaseRateIsFlooredByDaySpecificRate(int occupancy, String expectedBase) {
+        RateTableModel rateTable = dynamicRateTable("100.00", "200.00", 2, 5);
+        rateTable.getDaySpecificRates().add(daySpecificRate(DayOfWeek.SATURDAY, "150.00"));
+
+        CompiledRateSource source = CompiledRateSource.of(rateTable);
+
+        assertEquals(new BigDecimal(expectedBase), MoneyMath.toAmount(source.getBaseNightly(DayOfWeek.SATURDAY, occupancy)));
+    }
+
+    private static RateTableModel dynamicRateTable(String lowRate, String maxRate, int lowestOccupancy, int maxOccupancy) {
+        RateTableModel rateTable = rateTable(RateTableTypeEnum.DYNAMIC);
+        rateTable.setLowRate(new BigDecimal(lowRate));
+        rateTable.setMaxRate(new BigDecimal(maxRate));
+        rateTable.setLowestOccupancy(lowestOccupancy);
+        rateTable.setMaxOccupancy(maxOccupancy);
+        return rateTable;
+    }
+
+    private static RateTableModel rateTable(RateTableTypeEnum type) {
+        RateTableModel rateTable = new RateTableModel();
+        rateTable.setType(type);
+        rateTable.setMinStay(1);
+        return rateTable;
+    }
+
+    private static DaySpecificRateModel daySpecificRate(DayOfWeek day, String nightly) {
+        DaySpecificRateModel daySpecificRate = new DaySpecificRateModel();
+        daySpecificRate.setDays(Set.of(day));
+        daySpecificRate.setNightly(new BigDecimal(nightly));
+        return daySpecificRate;
+    }
+}
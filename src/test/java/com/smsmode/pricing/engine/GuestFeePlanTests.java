@@ -0,0 +1,90 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.embeddable.AgeBucketEmbeddable;
+import com.smsmode.pricing.enumeration.AmountTypeEnum;
+import com.smsmode.pricing.enumeration.GuestTypeEnum;
+import com.smsmode.pricing.model.AdditionalGuestFeeModel;
+import com.smsmode.pricing.model.DefaultRateModel;
+import com.smsmode.pricing.resource.common.ChildResource;
+import com.smsmode.pricing.resource.common.GuestsResource;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Additional guest fees of a night, for a default rate with an adult fee from the third adult, a
+ * percent fee for children up to 5 and a flat fee for children from 6 to 12.
+ */
+class GuestFeePlanTests {
+
+    private final CompiledRateSource source = CompiledRateSource.of(defaultRate());
+
+    @ParameterizedTest(name = "{0} adults, children aged [{1}], base {2}: fees {3}")
+    @CsvSource({
+            "1, '', 99.99, 0.00",
+            // The adult fee starts with the third adult (guest count 2)
+            "2, '', 99.99, 0.00",
+            "3, '', 99.99, 15.00",
+            "4, '', 99.99, 30.00",
+            // 12.50% of 99.99 = 12.49875, rounded half up per child
+            "1, '3', 99.99, 12.50",
+            "1, '3 4', 99.99, 25.00",
+            // 12.50% of 0.04 = 0.005: each child is rounded before being summed
+            "1, '3 4', 0.04, 0.02",
+            "1, '8', 99.99, 10.00",
+            "3, '3 8', 99.99, 37.50",
+            // Without adults the first child pays the base rate, buckets are filled in configured order
+            "0, '3', 99.99, 0.00",
+            "0, '3 8', 99.99, 12.50",
+            // Children older than every bucket pay nothing
+            "1, '14', 99.99, 0.00"
+    })
+    void feesMatchBigDecimalRounding(int adults, String childAges, String baseNightly, String expectedFees) {
+        GuestFeePlan guestFeePlan = GuestFeePlan.of(source, GuestComposition.of(guests(adults, childAges)));
+
+        long fees = guestFeePlan.feesFor(MoneyMath.toMinorUnits(new BigDecimal(baseNightly)));
+
+        assertEquals(new BigDecimal(expectedFees), MoneyMath.toAmount(fees));
+    }
+
+    private static GuestsResource guests(int adults, String childAges) {
+        GuestsResource guests = new GuestsResource();
+        guests.setAdults(adults);
+        Arrays.stream(childAges.split(" ")).filter(age -> !age.isEmpty()).forEach(age -> {
+            ChildResource child = new ChildResource();
+            child.setAge(Integer.parseInt(age));
+            child.setQuantity(1);
+            guests.getChildren().add(child);
+        });
+        return guests;
+    }
+
+    private static DefaultRateModel defaultRate() {
+        DefaultRateModel defaultRate = new DefaultRateModel();
+        defaultRate.setNightly(new BigDecimal("100.00"));
+        defaultRate.getAdditionalGuestFees().add(fee(GuestTypeEnum.ADULT, 2, AmountTypeEnum.FLAT, "15.00", null, null));
+        defaultRate.getAdditionalGuestFees().add(fee(GuestTypeEnum.CHILD, 1, AmountTypeEnum.PERCENT, "12.50", 0, 5));
+        defaultRate.getAdditionalGuestFees().add(fee(GuestTypeEnum.CHILD, 1, AmountTypeEnum.FLAT, "10.00", 6, 12));
+        return defaultRate;
+    }
+
+    private static AdditionalGuestFeeModel fee(GuestTypeEnum guestType, int guestCount, AmountTypeEnum amountType,
+                                               String value, Integer fromAge, Integer toAge) {
+        AdditionalGuestFeeModel fee = new AdditionalGuestFeeModel();
+        fee.setGuestType(guestType);
+        fee.setGuestCount(guestCount);
+        fee.setAmountType(amountType);
+        fee.setValue(new BigDecimal(value));
+        if (fromAge != null) {
+            AgeBucketEmbeddable ageBucket = new AgeBucketEmbeddable();
+            ageBucket.setFromAge(fromAge);
+            ageBucket.setToAge(toAge);
+            fee.setAgeBucket(ageBucket);
+        }
+        return fee;
+    }
+}
@@ -0,0 +1,84 @@
+package com.smsmode.pricing.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Fixed-point money arithmetic gives the same results as the BigDecimal arithmetic it replaces.
+ */
+class MoneyMathTests {
+
+    @ParameterizedTest(name = "{0} x {1}% = {2}")
+    @CsvSource({
+            "100.00, 15.00, 15.00",
+            "33.33, 10.00, 3.33",
+            // Ties are rounded half up, away from zero
+            "0.05, 50.00, 0.03",
+            "0.01, 50.00, 0.01",
+            "1.00, 0.50, 0.01",
+            "-0.05, 50.00, -0.03",
+            "123.45, 12.50, 15.43",
+            "99.99, 12.50, 12.50",
+            "99.99, 33.33, 33.33",
+            "0.00, 25.00, 0.00",
+            "250.00, 100.00, 250.00"
+    })
+    void percentOfRoundsHalfUpLikeBigDecimal(String amount, String percent, String expected) {
+        BigDecimal reference = new BigDecimal(amount).multiply(new BigDecimal(percent))
+                .divide(BigDecimal.valueOf(100), MoneyMath.SCALE, RoundingMode.HALF_UP);
+
+        long fee = MoneyMath.percentOf(MoneyMath.toMinorUnits(new BigDecimal(amount)), MoneyMath.toMinorUnits(new BigDecimal(percent)));
+
+        assertEquals(new BigDecimal(expected), reference);
+        assertEquals(reference, MoneyMath.toAmount(fee));
+    }
+
+    @ParameterizedTest(name = "{0} / {1} = {2}")
+    @CsvSource({
+            "5, 2, 3",
+            "-5, 2, -3",
+            "4, 3, 1",
+            "5, 3, 2",
+            "-4, 3, -1",
+            "-5, 3, -2",
+            "7, 7, 1",
+            "0, 3, 0",
+            "10000, 3, 3333"
+    })
+    void divideHalfUpRoundsLikeBigDecimal(long dividend, long divisor, long expected) {
+        BigDecimal reference = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP);
+
+        assertEquals(expected, reference.longValueExact());
+        assertEquals(expected, MoneyMath.divideHalfUp(dividend, divisor));
+    }
+
+    @ParameterizedTest(name = "{0} = {1} minor units")
+    @CsvSource({
+            "12.3, 1230",
+            "12.30, 1230",
+            "0.01, 1",
+            "1, 100",
+            "-7.5, -750"
+    })
+    void amountsConvertToMinorUnitsAndBack(String amount, long minorUnits) {
+        assertEquals(minorUnits, MoneyMath.toMinorUnits(new BigDecimal(amount)));
+        assertEquals(new BigDecimal(amount).setScale(MoneyMath.SCALE), MoneyMath.toAmount(minorUnits));
+    }
+
+    @Test
+    void nullAmountIsZero() {
+        assertEquals(0L, MoneyMath.toMinorUnits(null));
+    }
+
+    @Test
+    void amountWithMoreThanTwoDecimalsIsRejected() {
+        assertThrows(ArithmeticException.class, () -> MoneyMath.toMinorUnits(new BigDecimal("1.005")));
+    }
+}
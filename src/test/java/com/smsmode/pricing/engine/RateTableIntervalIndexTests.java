@@ -0,0 +1,102 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.enumeration.RateTableTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Overlap checks of the rate table interval index used by rate table saves and bulk upserts.
+ */
+class RateTableIntervalIndexTests {
+
+    private static final RateTableTypeEnum STANDARD = RateTableTypeEnum.STANDARD;
+    private static final RateTableTypeEnum DYNAMIC = RateTableTypeEnum.DYNAMIC;
+
+    private final RateTableIntervalIndex index = RateTableIntervalIndex.of(List.of(
+            interval("january", STANDARD, "2025-01-01", "2025-01-31"),
+            interval("march", STANDARD, "2025-03-01", "2025-03-31"),
+            interval("long", STANDARD, "2025-06-01", "2025-12-31"),
+            interval("july", STANDARD, "2025-07-01", "2025-07-10"),
+            interval("dynamic-january", DYNAMIC, "2025-01-01", "2025-01-31")));
+
+    @Test
+    void endDatesAreInclusive() {
+        assertTrue(index.overlaps(interval(null, STANDARD, "2025-01-31", "2025-02-10"), null));
+        assertTrue(index.overlaps(interval(null, STANDARD, "2025-02-10", "2025-03-01"), null));
+        assertTrue(index.overlaps(interval(null, STANDARD, "2025-01-15", "2025-01-15"), null));
+        assertFalse(index.overlaps(interval(null, STANDARD, "2025-02-01", "2025-02-28"), null));
+    }
+
+    @Test
+    void sameStartDatesOverlap() {
+        assertTrue(index.overlaps(interval(null, STANDARD, "2025-03-01", "2025-03-01"), null));
+        assertTrue(index.overlaps(interval(null, STANDARD, "2025-07-01", "2025-07-02"), null));
+    }
+
+    @Test
+    void earlierLongIntervalIsFoundBehindShorterOnes() {
+        // "long" starts before "july" and still covers the end of the year
+        assertTrue(index.overlaps(interval(null, STANDARD, "2025-11-01", "2025-11-30"), null));
+        assertFalse(index.overlaps(interval(null, STANDARD, "2026-01-01", "2026-01-31"), null));
+    }
+
+    @Test
+    void onlyIntervalsOfTheSameTypeOverlap() {
+        assertFalse(index.overlaps(interval(null, DYNAMIC, "2025-03-01", "2025-03-31"), null));
+        assertTrue(index.overlaps(interval(null, DYNAMIC, "2025-01-31", "2025-02-01"), null));
+    }
+
+    @Test
+    void updatedIntervalIsNotCheckedAgainstItself() {
+        assertFalse(index.overlaps(interval("january", STANDARD, "2025-01-10", "2025-02-10"), "january"));
+        assertTrue(index.overlaps(interval("january", STANDARD, "2025-01-10", "2025-03-10"), "january"));
+        assertEquals(List.of(), index.findOverlapping(List.of(interval("march", STANDARD, "2025-02-15", "2025-03-15"))));
+    }
+
+    @Test
+    void proposedIntervalsOverlappingEachOtherAreAllReported() {
+        RateTableInterval first = interval(null, STANDARD, "2026-01-01", "2026-01-10");
+        RateTableInterval second = interval(null, STANDARD, "2026-01-10", "2026-01-20");
+        RateTableInterval separate = interval(null, STANDARD, "2026-02-01", "2026-02-10");
+        RateTableInterval otherType = interval(null, DYNAMIC, "2026-01-05", "2026-01-15");
+
+        assertEquals(List.of(first, second), index.findOverlapping(List.of(first, second, separate, otherType)));
+    }
+
+    @Test
+    void proposalOverlappingAnEarlierLongerProposalIsReported() {
+        RateTableInterval longer = interval(null, STANDARD, "2026-01-01", "2026-01-31");
+        RateTableInterval inside = interval(null, STANDARD, "2026-01-05", "2026-01-06");
+        RateTableInterval afterInside = interval(null, STANDARD, "2026-01-20", "2026-01-21");
+
+        assertEquals(List.of(longer, inside, afterInside), index.findOverlapping(List.of(longer, inside, afterInside)));
+    }
+
+    @Test
+    void movedIntervalFreesItsFormerDatesForTheBatch() {
+        RateTableInterval moved = interval("january", STANDARD, "2025-02-01", "2025-02-28");
+        RateTableInterval created = interval(null, STANDARD, "2025-01-01", "2025-01-31");
+
+        assertEquals(List.of(), index.findOverlapping(List.of(moved, created)));
+        assertEquals(List.of(created), index.findOverlapping(List.of(created)));
+    }
+
+    @Test
+    void rejectedMoveKeepsItsFormerDatesForTheBatch() {
+        RateTableInterval rejectedMove = interval("january", STANDARD, "2025-03-10", "2025-03-20");
+        RateTableInterval created = interval(null, STANDARD, "2025-01-01", "2025-01-31");
+        RateTableInterval separate = interval(null, STANDARD, "2025-02-01", "2025-02-28");
+
+        assertEquals(List.of(rejectedMove, created), index.findOverlapping(List.of(rejectedMove, created, separate)));
+    }
+
+    private static RateTableInterval interval(String id, RateTableTypeEnum type, String startDate, String endDate) {
+        return new RateTableInterval(id, type, LocalDate.parse(startDate), LocalDate.parse(endDate));
+    }
+}
@@ -0,0 +1,63 @@
+package com.smsmode.pricing.engine;
+
+import com.smsmode.pricing.embeddable.SegmentRefEmbeddable;
+import com.smsmode.pricing.model.RatePlanModel;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The enabled rate plan of a segment chain is resolved from the unit snapshot, the sub-segment first.
+ */
+class UnitPricingSnapshotTests {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    void subSegmentRatePlanComesBeforeSegmentRatePlan() {
+        UnitPricingSnapshot snapshot = snapshot(
+                ratePlan("plan-1", MODIFIED_AT, "direct"),
+                ratePlan("plan-2", MODIFIED_AT, "direct-mobile"));
+
+        assertEquals("plan-2", findId(snapshot, "direct-mobile", "direct"));
+        assertEquals("plan-1", findId(snapshot, "direct-web", "direct"));
+        assertNull(findId(snapshot, null, "ota"));
+    }
+
+    @Test
+    void lastModifiedRatePlanWinsSharedSegment() {
+        RatePlanModel older = ratePlan("plan-1", MODIFIED_AT, "direct", "ota");
+        RatePlanModel newer = ratePlan("plan-2", MODIFIED_AT.plusMinutes(1), "direct");
+
+        for (UnitPricingSnapshot snapshot : List.of(snapshot(older, newer), snapshot(newer, older))) {
+            assertEquals("plan-2", findId(snapshot, null, "direct"));
+            assertEquals("plan-1", findId(snapshot, null, "ota"));
+        }
+        assertEquals("plan-1", findId(snapshot(older), null, "direct"));
+    }
+
+    private static String findId(UnitPricingSnapshot snapshot, String subSegmentId, String segmentId) {
+        CompiledRatePlan ratePlan = snapshot.findEnabledRatePlan(SegmentChain.of(subSegmentId, segmentId));
+        return ratePlan != null ? ratePlan.getId() : null;
+    }
+
+    private static UnitPricingSnapshot snapshot(RatePlanModel... enabledRatePlans) {
+        return UnitPricingSnapshot.of("unit-1", null, List.of(enabledRatePlans), Map.of());
+    }
+
+    private static RatePlanModel ratePlan(String ratePlanId, LocalDateTime modifiedAt, String... segmentIds) {
+        RatePlanModel ratePlan = new RatePlanModel();
+        ratePlan.setId(ratePlanId);
+        ratePlan.setName(ratePlanId);
+        ratePlan.setEnabled(true);
+        ratePlan.setModifiedAt(modifiedAt);
+        Arrays.stream(segmentIds).forEach(segmentId -> ratePlan.getSegments().add(new SegmentRefEmbeddable(segmentId, segmentId)));
+        return ratePlan;
+    }
+}
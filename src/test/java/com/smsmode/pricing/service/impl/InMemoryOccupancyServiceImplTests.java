@@ -0,0 +1,156 @@
+package com.smsmode.pricing.service.impl;
+
+import com.smsmode.pricing.config.EventConfig;
+import com.smsmode.pricing.config.OccupancyProperties;
+import com.smsmode.pricing.enumeration.BookingEventTypeEnum;
+import com.smsmode.pricing.event.BookingChangedEvent;
+import com.smsmode.pricing.service.OccupancySnapshotLoader;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Booking events delivered through the in-memory test binder update the occupancy counters.
+ */
+class InMemoryOccupancyServiceImplTests {
+
+    private static final String DESTINATION = "booking-changed";
+    private static final LocalDate START_DATE = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void bookingEventsUpdateOccupancy() {
+        try (ConfigurableApplicationContext context = startContext()) {
+            InputDestination input = context.getBean(InputDestination.class);
+            InMemoryOccupancyServiceImpl occupancyService = context.getBean(InMemoryOccupancyServiceImpl.class);
+            occupancyService.loadSnapshotIfNeeded();
+
+            input.send(bookingEvent("b1", "BOOKED", "2025-07-01", "2025-07-04"), DESTINATION);
+            input.send(bookingEvent("b2", "BOOKED", "2025-07-02", "2025-07-03"), DESTINATION);
+            assertArrayEquals(new int[]{1, 2, 1, 0}, occupancy(occupancyService));
+
+            // Redelivered booking is counted once
+            input.send(bookingEvent("b2", "BOOKED", "2025-07-02", "2025-07-03"), DESTINATION);
+            assertArrayEquals(new int[]{1, 2, 1, 0}, occupancy(occupancyService));
+
+            input.send(bookingEvent("b1", "CANCELLED", null, null), DESTINATION);
+            assertArrayEquals(new int[]{0, 1, 0, 0}, occupancy(occupancyService));
+
+            // Unknown booking cancellation is ignored
+            input.send(bookingEvent("b3", "CANCELLED", null, null), DESTINATION);
+            assertArrayEquals(new int[]{0, 1, 0, 0}, occupancy(occupancyService));
+        }
+    }
+
+    @Test
+    void snapshotIsMergedWithEventsReceivedBeforeIt() {
+        try (ConfigurableApplicationContext context = startContext()) {
+            InputDestination input = context.getBean(InputDestination.class);
+            InMemoryOccupancyServiceImpl occupancyService = context.getBean(InMemoryOccupancyServiceImpl.class);
+            TestSnapshotLoader snapshotLoader = context.getBean(TestSnapshotLoader.class);
+
+            // No occupancy until the snapshot is loaded, and a failed load is retried
+            snapshotLoader.failing = true;
+            occupancyService.loadSnapshotIfNeeded();
+            assertFalse(occupancyService.isInitialized());
+            assertNull(occupancy(occupancyService));
+
+            // Cancellation delivered before its booking: the booking is never counted
+            input.send(bookingEvent("b1", "CANCELLED", null, null), DESTINATION);
+            input.send(bookingEvent("b1", "BOOKED", "2025-07-01", "2025-07-04"), DESTINATION);
+            input.send(bookingEvent("b2", "BOOKED", "2025-07-02", "2025-07-03"), DESTINATION);
+
+            // Snapshot bookings already counted or cancelled from events are skipped
+            snapshotLoader.failing = false;
+            snapshotLoader.bookings.add(snapshotBooking("b1", "2025-07-01", "2025-07-04"));
+            snapshotLoader.bookings.add(snapshotBooking("b2", "2025-07-02", "2025-07-03"));
+            snapshotLoader.bookings.add(snapshotBooking("b3", "2025-07-03", "2025-07-05"));
+            occupancyService.loadSnapshotIfNeeded();
+            assertTrue(occupancyService.isInitialized());
+            assertArrayEquals(new int[]{0, 1, 1, 1}, occupancy(occupancyService));
+        }
+    }
+
+    @Test
+    void pastBookingsAreEvicted() {
+        try (ConfigurableApplicationContext context = startContext()) {
+            InputDestination input = context.getBean(InputDestination.class);
+            InMemoryOccupancyServiceImpl occupancyService = context.getBean(InMemoryOccupancyServiceImpl.class);
+            occupancyService.loadSnapshotIfNeeded();
+
+            input.send(bookingEvent("b1", "BOOKED", "2025-07-01", "2025-07-04"), DESTINATION);
+            input.send(bookingEvent("b2", "BOOKED", "2025-07-01", "2025-07-02"), DESTINATION);
+
+            // Nights before the day are dropped, the ongoing booking is still counted and releasable
+            occupancyService.evictPastBookings(LocalDate.of(2025, 7, 3));
+            assertArrayEquals(new int[]{0, 0, 1, 0}, occupancy(occupancyService));
+            input.send(bookingEvent("b1", "CANCELLED", null, null), DESTINATION);
+            assertArrayEquals(new int[]{0, 0, 0, 0}, occupancy(occupancyService));
+        }
+    }
+
+    private ConfigurableApplicationContext startContext() {
+        return new SpringApplicationBuilder(TestChannelBinderConfiguration.getCompleteConfiguration(OccupancyTestConfig.class))
+                .web(WebApplicationType.NONE)
+                .run("--spring.cloud.consul.enabled=false",
+                        "--spring.cloud.function.definition=processBookingChangedInputEvent",
+                        "--spring.cloud.stream.bindings.processBookingChangedInputEvent-in-0.destination=" + DESTINATION);
+    }
+
+    private int[] occupancy(InMemoryOccupancyServiceImpl occupancyService) {
+        return occupancyService.getOccupancies(List.of("plan-1"), START_DATE, 4).get("plan-1");
+    }
+
+    private Message<byte[]> bookingEvent(String bookingId, String type, String checkinDate, String checkoutDate) {
+        String payload = "{\"bookingId\":\"" + bookingId + "\",\"type\":\"" + type + "\",\"ratePlanId\":\"plan-1\""
+                + (checkinDate != null ? ",\"checkinDate\":\"" + checkinDate + "\",\"checkoutDate\":\"" + checkoutDate + "\"" : "")
+                + "}";
+        return MessageBuilder.withPayload(payload.getBytes()).build();
+    }
+
+    private BookingChangedEvent snapshotBooking(String bookingId, String checkinDate, String checkoutDate) {
+        BookingChangedEvent booking = new BookingChangedEvent();
+        booking.setBookingId(bookingId);
+        booking.setType(BookingEventTypeEnum.BOOKED);
+        booking.setRatePlanId("plan-1");
+        booking.setCheckinDate(LocalDate.parse(checkinDate));
+        booking.setCheckoutDate(LocalDate.parse(checkoutDate));
+        return booking;
+    }
+
+    @EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+    @Import({EventConfig.class, OccupancyProperties.class, InMemoryOccupancyServiceImpl.class, TestSnapshotLoader.class})
+    static class OccupancyTestConfig {
+    }
+
+    static class TestSnapshotLoader implements OccupancySnapshotLoader {
+
+        private final List<BookingChangedEvent> bookings = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public List<BookingChangedEvent> loadActiveBookings() {
+            if (failing) {
+                throw new IllegalStateException("Booking service unavailable");
+            }
+            return bookings;
+        }
+    }
+}
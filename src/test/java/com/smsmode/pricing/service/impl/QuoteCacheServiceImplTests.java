@@ -0,0 +1,81 @@
+package com.smsmode.pricing.service.impl;
+
+import com.smsmode.pricing.config.PricingCalculationProperties;
+import com.smsmode.pricing.engine.QuoteKey;
+import com.smsmode.pricing.engine.SegmentChain;
+import com.smsmode.pricing.engine.UnitPricingSnapshot;
+import com.smsmode.pricing.enumeration.NightRatesModeEnum;
+import com.smsmode.pricing.event.PricingDataChangedEvent;
+import com.smsmode.pricing.resource.common.UnitPricingGetResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Cached pricings are dropped per unit when the unit's pricing data changes.
+ */
+class QuoteCacheServiceImplTests {
+
+    private static final LocalDate CHECKIN = LocalDate.of(2025, 7, 3);
+
+    private final QuoteCacheServiceImpl quoteCacheService = createQuoteCacheService();
+
+    @Test
+    void pricingDataChangeDropsAllPricingsOfTheUnitOnly() {
+        UnitPricingSnapshot snapshot1 = snapshot("unit-1");
+        UnitPricingSnapshot snapshot2 = snapshot("unit-2");
+        UnitPricingGetResource oneNight = cache(key("unit-1", 1), snapshot1);
+        UnitPricingGetResource twoNights = cache(key("unit-1", 2), snapshot1);
+        UnitPricingGetResource otherUnit = cache(key("unit-2", 1), snapshot2);
+        assertSame(oneNight, quoteCacheService.get(key("unit-1", 1), snapshot1));
+        assertSame(twoNights, quoteCacheService.get(key("unit-1", 2), snapshot1));
+
+        quoteCacheService.onPricingDataChanged(PricingDataChangedEvent.ofUnits("unit-1"));
+
+        assertNull(quoteCacheService.get(key("unit-1", 1), snapshot1));
+        assertNull(quoteCacheService.get(key("unit-1", 2), snapshot1));
+        assertSame(otherUnit, quoteCacheService.get(key("unit-2", 1), snapshot2));
+    }
+
+    @Test
+    void pricingCachedAgainAfterAChangeIsDroppedByTheNextChange() {
+        UnitPricingSnapshot snapshot = snapshot("unit-1");
+        cache(key("unit-1", 1), snapshot);
+        quoteCacheService.onPricingDataChanged(PricingDataChangedEvent.ofUnits("unit-1"));
+
+        UnitPricingGetResource recached = cache(key("unit-1", 1), snapshot);
+        assertSame(recached, quoteCacheService.get(key("unit-1", 1), snapshot));
+        quoteCacheService.onPricingDataChanged(PricingDataChangedEvent.ofUnits("unit-1"));
+
+        assertNull(quoteCacheService.get(key("unit-1", 1), snapshot));
+    }
+
+    private UnitPricingGetResource cache(QuoteKey key, UnitPricingSnapshot snapshot) {
+        UnitPricingGetResource unitPricing = new UnitPricingGetResource();
+        unitPricing.setId(key.getUnitId());
+        quoteCacheService.put(key, snapshot, unitPricing);
+        return unitPricing;
+    }
+
+    private static QuoteKey key(String unitId, int nights) {
+        return new QuoteKey(unitId, CHECKIN, CHECKIN.plusDays(nights), null, SegmentChain.of(null, "direct"),
+                NightRatesModeEnum.NIGHTS);
+    }
+
+    private static UnitPricingSnapshot snapshot(String unitId) {
+        return UnitPricingSnapshot.of(unitId, null, List.of(), Map.of());
+    }
+
+    private static QuoteCacheServiceImpl createQuoteCacheService() {
+        QuoteCacheServiceImpl quoteCacheService =
+                new QuoteCacheServiceImpl(new PricingCalculationProperties(), new SimpleMeterRegistry());
+        quoteCacheService.initQuoteCache();
+        return quoteCacheService;
+    }
+}
@@ -0,0 +1,146 @@
+package com.smsmode.pricing.service.impl;
+
+import com.smsmode.pricing.config.AuditingConfig;
+import com.smsmode.pricing.dao.service.impl.RatePlanDaoServiceImpl;
+import com.smsmode.pricing.dao.service.impl.RateTableDaoServiceImpl;
+import com.smsmode.pricing.embeddable.RatePlanRefEmbeddable;
+import com.smsmode.pricing.embeddable.UnitRefEmbeddable;
+import com.smsmode.pricing.enumeration.BulkItemStatusEnum;
+import com.smsmode.pricing.mapper.RateTableMapperImpl;
+import com.smsmode.pricing.model.RatePlanModel;
+import com.smsmode.pricing.model.RateTableModel;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkItemResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkPostResource;
+import com.smsmode.pricing.resource.ratetable.RateTableBulkResultGetResource;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Bulk upserts are checked for overlaps on the final dates of the whole request, so a rate table can
+ * be moved and another one created in its former dates at once.
+ *
+ * <p>H2 has no exclusion constraint: this covers the bulk pre-check and the single write of the
+ * request; the deferred EX_RATE_TABLE_NO_OVERLAP constraint (V4 migration) is PostgreSQL only.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-tables;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.consul.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditingConfig.class, RatePlanDaoServiceImpl.class, RateTableDaoServiceImpl.class, RateTableMapperImpl.class,
+        RateTableServiceImpl.class})
+class RateTableServiceImplTests {
+
+    private static final LocalDate JANUARY_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate JANUARY_31 = LocalDate.of(2025, 1, 31);
+    private static final LocalDate FEBRUARY_1 = LocalDate.of(2025, 2, 1);
+    private static final LocalDate FEBRUARY_28 = LocalDate.of(2025, 2, 28);
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private RateTableServiceImpl rateTableService;
+
+    @Test
+    void moveAndInsertInFormerDatesAreAcceptedTogether() {
+        RatePlanModel ratePlan = persistRatePlan();
+        String januaryId = persistRateTable(ratePlan, JANUARY_1, JANUARY_31);
+
+        List<RateTableBulkResultGetResource> results = rateTableService.bulkUpsert(bulkRequest(ratePlan,
+                bulkItem(januaryId, FEBRUARY_1, FEBRUARY_28),
+                bulkItem(null, JANUARY_1, JANUARY_31))).getBody();
+
+        assertEquals(BulkItemStatusEnum.UPDATED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusEnum.CREATED, results.get(1).getStatus());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(FEBRUARY_1, entityManager.find(RateTableModel.class, januaryId).getStartDate());
+        assertEquals(JANUARY_1, entityManager.find(RateTableModel.class, results.get(1).getId()).getStartDate());
+    }
+
+    @Test
+    void insertInDatesOfUnmovedRateTableIsRejected() {
+        RatePlanModel ratePlan = persistRatePlan();
+        String januaryId = persistRateTable(ratePlan, JANUARY_1, JANUARY_31);
+
+        List<RateTableBulkResultGetResource> results = rateTableService.bulkUpsert(bulkRequest(ratePlan,
+                bulkItem(januaryId, JANUARY_1, JANUARY_31),
+                bulkItem(null, JANUARY_31, FEBRUARY_28))).getBody();
+
+        assertEquals(BulkItemStatusEnum.REJECTED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusEnum.REJECTED, results.get(1).getStatus());
+    }
+
+    @Test
+    void insertInDatesOfRejectedMoveIsRejected() {
+        RatePlanModel ratePlan = persistRatePlan();
+        String januaryId = persistRateTable(ratePlan, JANUARY_1, JANUARY_31);
+        persistRateTable(ratePlan, FEBRUARY_1, FEBRUARY_28);
+
+        List<RateTableBulkResultGetResource> results = rateTableService.bulkUpsert(bulkRequest(ratePlan,
+                bulkItem(januaryId, FEBRUARY_1, FEBRUARY_28),
+                bulkItem(null, JANUARY_1, JANUARY_31))).getBody();
+
+        assertEquals(BulkItemStatusEnum.REJECTED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusEnum.REJECTED, results.get(1).getStatus());
+        entityManager.clear();
+        assertEquals(JANUARY_1, entityManager.find(RateTableModel.class, januaryId).getStartDate());
+    }
+
+    private RatePlanModel persistRatePlan() {
+        RatePlanModel ratePlan = new RatePlanModel();
+        ratePlan.setName("Plan");
+        ratePlan.setEnabled(true);
+        UnitRefEmbeddable unit = new UnitRefEmbeddable();
+        unit.setId("unit-1");
+        ratePlan.setUnit(unit);
+        entityManager.persist(ratePlan);
+        return ratePlan;
+    }
+
+    private String persistRateTable(RatePlanModel ratePlan, LocalDate startDate, LocalDate endDate) {
+        RateTableModel rateTable = new RateTableModel();
+        rateTable.setName("Table");
+        rateTable.setStartDate(startDate);
+        rateTable.setEndDate(endDate);
+        rateTable.setNightly(new BigDecimal("100.00"));
+        rateTable.setRatePlan(ratePlan);
+        entityManager.persist(rateTable);
+        entityManager.flush();
+        entityManager.clear();
+        return rateTable.getId();
+    }
+
+    private RateTableBulkPostResource bulkRequest(RatePlanModel ratePlan, RateTableBulkItemResource... items) {
+        RateTableBulkPostResource request = new RateTableBulkPostResource();
+        request.setRatePlan(new RatePlanRefEmbeddable(ratePlan.getId()));
+        request.setRateTables(List.of(items));
+        return request;
+    }
+
+    private RateTableBulkItemResource bulkItem(String id, LocalDate startDate, LocalDate endDate) {
+        RateTableBulkItemResource item = new RateTableBulkItemResource();
+        item.setId(id);
+        item.setName("Table " + startDate);
+        item.setStartDate(startDate);
+        item.setEndDate(endDate);
+        item.setNightly(new BigDecimal("100.00"));
+        item.setMinStay(1);
+        return item;
+    }
+}
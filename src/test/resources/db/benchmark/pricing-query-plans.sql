@@ -0,0 +1,82 @@
+-- ===================================================================
+-- Query plans of the pricing query shapes at 1M rate tables.
+-- Run against a scratch PostgreSQL database migrated by Flyway (V1 to V5):
+--   psql -v ON_ERROR_STOP=1 -f pricing-query-plans.sql > pricing-query-plans.out 2>&1
+-- OPEN: the script has never been run against a 1M-row database and no pricing-query-plans.out
+-- is committed. Commit it next to this script once it has been captured.
+-- Data: 10,000 units with one default rate and two rate plans each (20,000 rate plans), 50 weekly
+-- rate tables per rate plan (1,000,000 rate tables), one fee and one day-specific rate per table.
+-- The V2 indexes and the V3 GiST index were designed for these shapes, but until the output is
+-- captured, it is unverified that no plan falls back to a Seq Scan on RATE_TABLE,
+-- ADDITIONAL_GUEST_FEE or DAY_SPECIFIC_RATE.
+-- ===================================================================
+\timing on
+
+-- Step 1: Fixture data
+INSERT INTO DEFAULT_RATE (ID, nightly, minStay, UNIT_ID, CREATED_BY, MODIFIED_BY)
+SELECT gen_random_uuid(), 100, 1, 'unit-' || u, 'benchmark', 'benchmark'
+FROM generate_series(1, 10000) u;
+
+INSERT INTO RATE_PLAN (ID, NAME, ENABLED, UNIT_ID, CREATED_BY, MODIFIED_BY)
+SELECT gen_random_uuid(), 'plan-' || u || '-' || p, p = 1, 'unit-' || u, 'benchmark', 'benchmark'
+FROM generate_series(1, 10000) u, generate_series(1, 2) p;
+
+INSERT INTO RatePlanModel_segments (RatePlanModel_ID, SEGMENT_ID, SEGMENT_NAME)
+SELECT ID, 'segment-' || (abs(hashtext(ID::text)) % 20), 'Segment'
+FROM RATE_PLAN;
+
+INSERT INTO RATE_TABLE (ID, NAME, START_DATE, END_DATE, TYPE, NIGHTLY, MIN_STAY, RATE_PLAN_ID, CREATED_BY, MODIFIED_BY)
+SELECT gen_random_uuid(), 'week-' || w, DATE '2026-01-05' + 7 * w, DATE '2026-01-05' + 7 * w + 6,
+       'STANDARD', 120, 1, p.ID, 'benchmark', 'benchmark'
+FROM RATE_PLAN p, generate_series(0, 49) w;
+
+INSERT INTO ADDITIONAL_GUEST_FEE (ID, guestCount, guestType, amountType, value, RATE_TABLE_ID, CREATED_BY, MODIFIED_BY)
+SELECT gen_random_uuid(), 2, 'ADULT', 'FLAT', 15, ID, 'benchmark', 'benchmark'
+FROM RATE_TABLE;
+
+INSERT INTO DAY_SPECIFIC_RATE (ID, nightly, days, RATE_TABLE_ID, CREATED_BY, MODIFIED_BY)
+SELECT gen_random_uuid(), 150, 'FRIDAY,SATURDAY', ID, 'benchmark', 'benchmark'
+FROM RATE_TABLE;
+
+VACUUM ANALYZE;
+
+-- Step 2: Query plans
+-- Rate tables covering a stay (withRatePlanUuid + withDateRangeCoverage)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM RATE_TABLE t
+WHERE t.RATE_PLAN_ID = (SELECT ID FROM RATE_PLAN WHERE NAME = 'plan-5000-1')
+  AND t.START_DATE < DATE '2026-07-10' AND t.END_DATE >= DATE '2026-07-03';
+
+-- Rate table of a night (RateTableDaoServiceImpl.findRateTableForDate, DATES containment)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM RATE_TABLE t
+WHERE t.RATE_PLAN_ID = (SELECT ID FROM RATE_PLAN WHERE NAME = 'plan-5000-1')
+  AND t.DATES @> DATE '2026-07-03'
+ORDER BY CASE t.TYPE WHEN 'STANDARD' THEN 0 ELSE 1 END;
+
+-- Overlap check interval load (RateTableDaoServiceImpl.loadIntervalIndex): index-only
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.ID, t.TYPE, t.START_DATE, t.END_DATE FROM RATE_TABLE t
+WHERE t.RATE_PLAN_ID = (SELECT ID FROM RATE_PLAN WHERE NAME = 'plan-5000-1');
+
+-- Snapshot load of 100 units' rate tables with their fees (findAllWithRelatedDataForPricing)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, f.* FROM RATE_TABLE t
+LEFT JOIN ADDITIONAL_GUEST_FEE f ON f.RATE_TABLE_ID = t.ID
+WHERE t.RATE_PLAN_ID IN (SELECT ID FROM RATE_PLAN WHERE UNIT_ID IN
+                         (SELECT 'unit-' || u FROM generate_series(1000, 1099) u) AND ENABLED);
+
+-- Default rates of 100 units (DefaultRateSpecification.withUnitId, unit.id in ...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM DEFAULT_RATE d
+WHERE d.UNIT_ID IN (SELECT 'unit-' || u FROM generate_series(1000, 1099) u);
+
+-- Enabled rate plans of a segment (RatePlanSpecification.withOverlappingSegments)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT p.* FROM RATE_PLAN p
+JOIN RatePlanModel_segments s ON s.RatePlanModel_ID = p.ID
+WHERE p.ENABLED AND s.SEGMENT_ID IN ('segment-3');
+
+-- Rate plans of a unit (RatePlanSpecification.withUnitUuid)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM RATE_PLAN p WHERE p.UNIT_ID = 'unit-5000' AND p.ENABLED;